@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.common.output.OutputFormat;
+import com.scottlogic.datahelix.generator.core.config.detail.CombinationStrategyType;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.config.detail.MonitorType;
+import com.scottlogic.datahelix.generator.core.config.detail.VisualiserLevel;
+import com.scottlogic.datahelix.generator.orchestrator.guice.AllConfigSource;
+import com.scottlogic.datahelix.generator.output.compression.OutputCompression;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * A fixed, quiet, seeded configuration so that every run of a benchmark does the same work.
+ */
+class BenchmarkConfigSource implements AllConfigSource {
+    static final long SEED = 42;
+
+    private final File profileFile;
+    private final DataGenerationType generationType;
+
+    BenchmarkConfigSource(File profileFile, DataGenerationType generationType) {
+        this.profileFile = profileFile;
+        this.generationType = generationType;
+    }
+
+    @Override
+    public DataGenerationType getGenerationType() {
+        return generationType;
+    }
+
+    @Override
+    public CombinationStrategyType getCombinationStrategyType() {
+        return CombinationStrategyType.MINIMAL;
+    }
+
+    @Override
+    public Long getMaxRows() {
+        return null;
+    }
+
+    @Override
+    public boolean getInfiniteOutput() {
+        return true;
+    }
+
+    @Override
+    public int getPartitionThreads() {
+        return 1;
+    }
+
+    @Override
+    public int getThreads() {
+        return 1;
+    }
+
+    @Override
+    public Long getSeed() {
+        return SEED;
+    }
+
+    @Override
+    public boolean getShuffleUniqueValues() {
+        return false;
+    }
+
+    @Override
+    public MonitorType getMonitorType() {
+        return MonitorType.QUIET;
+    }
+
+    @Override
+    public VisualiserLevel getVisualiserLevel() {
+        return VisualiserLevel.OFF;
+    }
+
+    @Override
+    public Path getVisualiserOutputFolder() {
+        return null;
+    }
+
+    @Override
+    public File getProfileFile() {
+        return profileFile;
+    }
+
+    @Override
+    public String fromFilePath() {
+        return "";
+    }
+
+    @Override
+    public OutputFormat getOutputFormat() {
+        // the only format that can hold the rows of relational profiles
+        return OutputFormat.JSON;
+    }
+
+    @Override
+    public Path getOutputPath() {
+        return null;
+    }
+
+    @Override
+    public boolean overwriteOutputFiles() {
+        return true;
+    }
+
+    @Override
+    public boolean useStdOut() {
+        return true;
+    }
+
+    @Override
+    public OutputCompression getOutputCompression() {
+        return OutputCompression.NONE;
+    }
+
+    @Override
+    public int getCompressionThreads() {
+        return 1;
+    }
+
+    @Override
+    public Long getMaxRowsPerFile() {
+        return null;
+    }
+
+    @Override
+    public Long getMaxBytesPerFile() {
+        return null;
+    }
+
+    @Override
+    public int getFileWriterThreads() {
+        return 1;
+    }
+
+    @Override
+    public long getParquetRowGroupSize() {
+        return 128L * 1024 * 1024;
+    }
+
+    @Override
+    public int getOutputQueueSize() {
+        return 1024;
+    }
+}
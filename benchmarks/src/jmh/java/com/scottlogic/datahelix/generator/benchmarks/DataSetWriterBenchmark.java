@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.output.OutputFormat;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.output.writer.DataSetWriter;
+import com.scottlogic.datahelix.generator.output.writer.OutputWriterFactory;
+import com.scottlogic.datahelix.generator.output.writer.csv.CsvOutputWriterFactory;
+import com.scottlogic.datahelix.generator.output.writer.json.JsonOutputWriterFactory;
+import com.scottlogic.datahelix.generator.output.writer.parquet.ParquetOutputWriterFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes rows generated from a profile as streamed CSV and JSON, and as Parquet, discarding the bytes so that only
+ * formatting and encoding are timed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataSetWriterBenchmark {
+    @State(Scope.Benchmark)
+    public static class Writer {
+        @Param({"demoTrades", "faker", "datetimeDynamicFields"})
+        public String profile;
+
+        @Param({"CSV", "JSON", "PARQUET"})
+        public OutputFormat outputFormat;
+
+        List<GeneratedObject> rows;
+        OutputWriterFactory writerFactory;
+        DataSetWriter writer;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            ProfileFixture fixture = ProfileFixture.load(profile, DataGenerationType.RANDOM);
+            rows = fixture.rows;
+            writerFactory = createWriterFactory(outputFormat);
+            writer = writerFactory.createWriter(new DiscardingOutputStream(), fixture.profile.getFields());
+        }
+
+        private static OutputWriterFactory createWriterFactory(OutputFormat outputFormat) {
+            switch (outputFormat) {
+                case CSV:
+                    return new CsvOutputWriterFactory();
+                case PARQUET:
+                    return new ParquetOutputWriterFactory(128L * 1024 * 1024);
+                default:
+                    return new JsonOutputWriterFactory(true);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            writer.close();
+        }
+    }
+
+    @Benchmark
+    public void writeRow(Writer writer) throws IOException {
+        for (GeneratedObject row : writer.rows) {
+            writer.writer.writeRow(row);
+        }
+    }
+
+    private static class DiscardingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.common.whitelist.DistributedList;
+import com.scottlogic.datahelix.generator.common.whitelist.WeightedElement;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.fieldspecs.WhitelistFieldSpec;
+import com.scottlogic.datahelix.generator.core.utils.SplittableRandomNumberGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Picks random elements from the sets of the example profiles, and from large weighted sets like those read from
+ * files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistributedListBenchmark {
+    @State(Scope.Benchmark)
+    public static class ProfileSets {
+        @Param({"demoTrades", "fromFileWeighted", "inSet", "actorNames"})
+        public String profile;
+
+        List<DistributedList<Object>> sets;
+        SplittableRandomNumberGenerator randomNumberGenerator;
+        int next;
+
+        @Setup
+        public void setUp() throws IOException {
+            sets = ProfileFixture.load(profile, DataGenerationType.RANDOM).rowSpecs.stream()
+                .flatMap(rowSpec -> rowSpec.getFieldToFieldSpec().values().stream())
+                .filter(spec -> spec instanceof WhitelistFieldSpec)
+                .map(spec -> ((WhitelistFieldSpec) spec).getWhitelist())
+                .distinct()
+                .collect(Collectors.toList());
+            if (sets.isEmpty()) {
+                throw new IllegalArgumentException("Example " + profile + " has no sets");
+            }
+            randomNumberGenerator = new SplittableRandomNumberGenerator(BenchmarkConfigSource.SEED);
+        }
+
+        DistributedList<Object> nextSet() {
+            next = (next + 1) % sets.size();
+            return sets.get(next);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeSet {
+        @Param({"1000", "200000"})
+        public int size;
+
+        DistributedList<Integer> set;
+        SplittableRandomNumberGenerator randomNumberGenerator;
+
+        @Setup
+        public void setUp() {
+            set = new DistributedList<>(IntStream.range(0, size)
+                .mapToObj(i -> new WeightedElement<>(i, 1 + i % 7))
+                .collect(Collectors.toList()));
+            randomNumberGenerator = new SplittableRandomNumberGenerator(BenchmarkConfigSource.SEED);
+        }
+    }
+
+    @Benchmark
+    public Object pickRandomlyFromProfileSet(ProfileSets sets) {
+        return sets.nextSet().pickRandomly(sets.randomNumberGenerator);
+    }
+
+    @Benchmark
+    public Object pickRandomlyFromLargeSet(LargeSet set) {
+        return set.set.pickRandomly(set.randomNumberGenerator);
+    }
+}
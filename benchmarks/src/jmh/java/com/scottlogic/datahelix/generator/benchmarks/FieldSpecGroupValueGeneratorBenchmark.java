@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecGroup;
+import com.scottlogic.datahelix.generator.core.generation.grouped.FieldSpecGroupValueGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates values for each of the field spec groups of a profile's row specs, in both generation modes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldSpecGroupValueGeneratorBenchmark {
+    private static final int VALUES_PER_GROUP = 10;
+
+    @State(Scope.Benchmark)
+    public static class Groups {
+        @Param({"demoTrades", "faker", "inSet", "userAccount", "datetimeDynamicFields"})
+        public String profile;
+
+        @Param({"RANDOM", "FULL_SEQUENTIAL"})
+        public DataGenerationType generationType;
+
+        FieldSpecGroupValueGenerator generator;
+        List<FieldSpecGroup> groups;
+
+        @Setup
+        public void setUp() throws IOException {
+            ProfileFixture fixture = ProfileFixture.load(profile, generationType);
+            generator = fixture.getInstance(FieldSpecGroupValueGenerator.class);
+            groups = fixture.fieldSpecGroups;
+        }
+    }
+
+    @Benchmark
+    public void generate(Groups groups, Blackhole blackhole) {
+        for (FieldSpecGroup group : groups.groups) {
+            groups.generator.generate(group)
+                .limit(VALUES_PER_GROUP)
+                .forEach(blackhole::consume);
+        }
+    }
+}
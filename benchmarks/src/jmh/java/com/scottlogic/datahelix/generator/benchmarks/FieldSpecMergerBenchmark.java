@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpec;
+import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecMerger;
+import com.scottlogic.datahelix.generator.core.fieldspecs.RowSpec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges the field specs that the row specs of a profile hold for each field, pairwise, both through a merger whose
+ * cache is warm and through a fresh merger each time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldSpecMergerBenchmark {
+    @State(Scope.Benchmark)
+    public static class Merges {
+        @Param({"demoTrades", "inSet", "partialContradictions", "userAccount"})
+        public String profile;
+
+        final FieldSpecMerger merger = new FieldSpecMerger();
+        final List<FieldSpec> lefts = new ArrayList<>();
+        final List<FieldSpec> rights = new ArrayList<>();
+
+        @Setup
+        public void setUp() throws IOException {
+            Map<Field, Set<FieldSpec>> specsByField = new LinkedHashMap<>();
+            for (RowSpec rowSpec : ProfileFixture.load(profile, DataGenerationType.RANDOM).rowSpecs) {
+                rowSpec.getFieldToFieldSpec().forEach((field, spec) ->
+                    specsByField.computeIfAbsent(field, f -> new LinkedHashSet<>()).add(spec));
+            }
+
+            for (Set<FieldSpec> specs : specsByField.values()) {
+                List<FieldSpec> distinct = new ArrayList<>(specs);
+                for (int i = 0; i < distinct.size(); i++) {
+                    lefts.add(distinct.get(i));
+                    rights.add(distinct.get((i + 1) % distinct.size()));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void merge(Merges merges, Blackhole blackhole) {
+        for (int i = 0; i < merges.lefts.size(); i++) {
+            blackhole.consume(merges.merger.merge(merges.lefts.get(i), merges.rights.get(i), false));
+        }
+    }
+
+    @Benchmark
+    public void mergeUncached(Merges merges, Blackhole blackhole) {
+        FieldSpecMerger merger = new FieldSpecMerger();
+        for (int i = 0; i < merges.lefts.size(); i++) {
+            blackhole.consume(merger.merge(merges.lefts.get(i), merges.rights.get(i), false));
+        }
+    }
+}
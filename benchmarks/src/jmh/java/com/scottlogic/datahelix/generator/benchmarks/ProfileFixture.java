@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.decisiontree.DecisionTree;
+import com.scottlogic.datahelix.generator.core.decisiontree.DecisionTreeFactory;
+import com.scottlogic.datahelix.generator.core.decisiontree.DecisionTreeOptimiser;
+import com.scottlogic.datahelix.generator.core.decisiontree.treepartitioning.TreePartitioner;
+import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecGroup;
+import com.scottlogic.datahelix.generator.core.fieldspecs.RowSpec;
+import com.scottlogic.datahelix.generator.core.generation.DataGenerator;
+import com.scottlogic.datahelix.generator.core.generation.DataGeneratorMonitor;
+import com.scottlogic.datahelix.generator.core.generation.UpfrontTreePruner;
+import com.scottlogic.datahelix.generator.core.generation.databags.DataBag;
+import com.scottlogic.datahelix.generator.core.generation.grouped.RowSpecGrouper;
+import com.scottlogic.datahelix.generator.core.profile.Profile;
+import com.scottlogic.datahelix.generator.core.walker.DecisionTreeWalker;
+import com.scottlogic.datahelix.generator.core.walker.decisionbased.RowSpecTreeSolver;
+import com.scottlogic.datahelix.generator.orchestrator.guice.AllModule;
+import com.scottlogic.datahelix.generator.profile.reader.ProfileReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reads one of the example profiles and runs it through each stage of generation up front, so that a benchmark can
+ * time a single stage against realistic inputs.
+ */
+class ProfileFixture {
+    static final int ROW_SPECS_PER_PARTITION = 100;
+    static final int ROWS = 1000;
+
+    final Injector injector;
+    final Profile profile;
+    final List<DecisionTree> partitions;
+    final List<RowSpec> rowSpecs;
+    final List<FieldSpecGroup> fieldSpecGroups;
+    final List<DataBag> dataBags;
+    final List<GeneratedObject> rows;
+
+    private ProfileFixture(String example, DataGenerationType generationType) throws IOException {
+        File profileFile = getExamplesDirectory().toPath().resolve(example).resolve("profile.json").toFile();
+        injector = Guice.createInjector(new AllModule(new BenchmarkConfigSource(profileFile, generationType)));
+        profile = injector.getInstance(ProfileReader.class).read(profileFile);
+
+        DecisionTree tree = injector.getInstance(UpfrontTreePruner.class).runUpfrontPrune(
+            injector.getInstance(DecisionTreeFactory.class).analyse(profile),
+            injector.getInstance(DataGeneratorMonitor.class));
+        if (tree.getRootNode() == null) {
+            throw new IllegalArgumentException("Example " + example + " is wholly contradictory");
+        }
+
+        DecisionTreeOptimiser optimiser = injector.getInstance(DecisionTreeOptimiser.class);
+        partitions = injector.getInstance(TreePartitioner.class).splitTreeIntoPartitions(tree)
+            .map(optimiser::optimiseTree)
+            .collect(Collectors.toList());
+
+        RowSpecTreeSolver rowSpecTreeSolver = injector.getInstance(RowSpecTreeSolver.class);
+        rowSpecs = partitions.stream()
+            .flatMap(partition -> rowSpecTreeSolver.createRowSpecs(partition).limit(ROW_SPECS_PER_PARTITION))
+            .collect(Collectors.toList());
+
+        fieldSpecGroups = rowSpecs.stream()
+            .flatMap(rowSpec -> RowSpecGrouper.createGroups(rowSpec).stream())
+            .collect(Collectors.toList());
+
+        DecisionTreeWalker walker = injector.getInstance(DecisionTreeWalker.class);
+        dataBags = partitions.stream()
+            .flatMap(partition -> walker.walk(partition).limit(ROWS / partitions.size() + 1))
+            .collect(Collectors.toList());
+
+        rows = injector.getInstance(DataGenerator.class).generateData(profile)
+            .limit(ROWS)
+            .collect(Collectors.toList());
+    }
+
+    static ProfileFixture load(String example, DataGenerationType generationType) throws IOException {
+        return new ProfileFixture(example, generationType);
+    }
+
+    <T> T getInstance(Class<T> type) {
+        return injector.getInstance(type);
+    }
+
+    private static File getExamplesDirectory() {
+        // set by the jmh task; fall back to the working directory so the benchmarks jar can be run from the root
+        return new File(System.getProperty("datahelix.examples", "examples"));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
+import com.scottlogic.datahelix.generator.core.utils.JavaUtilRandomNumberGenerator;
+import com.scottlogic.datahelix.generator.core.utils.SplittableRandomNumberGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the random number generators, on one thread and with every thread drawing from a shared generator.
+ * {@link SplittableRandomNumberGenerator} is never shared in generation, so its shared run is only a baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomNumberGeneratorBenchmark {
+    private static final BigDecimal LOWER = new BigDecimal("-1000000.5");
+    private static final BigDecimal UPPER = new BigDecimal("2500000.25");
+
+    public enum Implementation {
+        JAVA_UTIL {
+            @Override
+            RandomNumberGenerator create() {
+                return new JavaUtilRandomNumberGenerator(BenchmarkConfigSource.SEED);
+            }
+        },
+        SPLITTABLE {
+            @Override
+            RandomNumberGenerator create() {
+                return new SplittableRandomNumberGenerator(BenchmarkConfigSource.SEED);
+            }
+        };
+
+        abstract RandomNumberGenerator create();
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        @Param({"JAVA_UTIL", "SPLITTABLE"})
+        public Implementation implementation;
+
+        RandomNumberGenerator generator;
+
+        @Setup
+        public void setUp() {
+            generator = implementation.create();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"JAVA_UTIL", "SPLITTABLE"})
+        public Implementation implementation;
+
+        RandomNumberGenerator generator;
+
+        @Setup
+        public void setUp() {
+            generator = implementation.create();
+        }
+    }
+
+    @Benchmark
+    public int nextInt(PerThread state) {
+        return state.generator.nextInt(1000);
+    }
+
+    @Benchmark
+    public long nextLong(PerThread state) {
+        return state.generator.nextLong(-5000, 1L << 40);
+    }
+
+    @Benchmark
+    public double nextDouble(PerThread state) {
+        return state.generator.nextDouble(-1.5, 1e9);
+    }
+
+    @Benchmark
+    public BigDecimal nextBigDecimal(PerThread state) {
+        return state.generator.nextBigDecimal(LOWER, UPPER);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int nextIntShared(Shared state) {
+        return state.generator.nextInt(1000);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.core.generation.string.generators.RegexStringGenerator;
+import com.scottlogic.datahelix.generator.core.restrictions.string.StringRestrictionsFactory;
+import com.scottlogic.datahelix.generator.core.utils.SplittableRandomNumberGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Generates random strings for the regular expressions used by the example profiles, bounded to the default maximum
+ * string length as they are in a profile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexStringGeneratorBenchmark {
+    private static final int VALUES = 100;
+
+    @State(Scope.Benchmark)
+    public static class Generator {
+        // from the regex, faker and userAccount examples
+        @Param({
+            "(Joh?n|Mar[yk])",
+            "[S].*",
+            "^[A-Za-z0-9]{3,10}$",
+            "^[a-z0-9]+\\@[a-z0-9]+\\.co(m|\\.uk)$"})
+        public String regex;
+
+        RegexStringGenerator generator;
+        SplittableRandomNumberGenerator randomNumberGenerator;
+
+        @Setup
+        public void setUp() {
+            generator = (RegexStringGenerator) StringRestrictionsFactory
+                .forStringMatching(Pattern.compile(regex), false)
+                .createGenerator();
+            randomNumberGenerator = new SplittableRandomNumberGenerator(BenchmarkConfigSource.SEED);
+        }
+    }
+
+    @Benchmark
+    public void generateRandomValues(Generator generator, Blackhole blackhole) {
+        generator.generator.generateRandomValues(generator.randomNumberGenerator)
+            .limit(VALUES)
+            .forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.decisiontree.DecisionTree;
+import com.scottlogic.datahelix.generator.core.walker.decisionbased.RowSpecTreeSolver;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solves the partitions of a profile into their first row specs, in both generation modes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowSpecTreeSolverBenchmark {
+    @State(Scope.Benchmark)
+    public static class Trees {
+        @Param({"demoTrades", "partialContradictions", "userAccount", "relational"})
+        public String profile;
+
+        @Param({"RANDOM", "FULL_SEQUENTIAL"})
+        public DataGenerationType generationType;
+
+        RowSpecTreeSolver solver;
+        List<DecisionTree> partitions;
+
+        @Setup
+        public void setUp() throws IOException {
+            ProfileFixture fixture = ProfileFixture.load(profile, generationType);
+            solver = fixture.getInstance(RowSpecTreeSolver.class);
+            partitions = fixture.partitions;
+        }
+    }
+
+    @Benchmark
+    public void createRowSpecs(Trees trees, Blackhole blackhole) {
+        for (DecisionTree partition : trees.partitions) {
+            trees.solver.createRowSpecs(partition)
+                .limit(ProfileFixture.ROW_SPECS_PER_PARTITION)
+                .forEach(blackhole::consume);
+        }
+    }
+}
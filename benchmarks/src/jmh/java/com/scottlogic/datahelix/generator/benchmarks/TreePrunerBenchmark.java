@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.benchmarks;
+
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.decisiontree.ConstraintNode;
+import com.scottlogic.datahelix.generator.core.decisiontree.DecisionTree;
+import com.scottlogic.datahelix.generator.core.generation.databags.DataBag;
+import com.scottlogic.datahelix.generator.core.generation.databags.DataBagValue;
+import com.scottlogic.datahelix.generator.core.walker.DecisionTreeWalker;
+import com.scottlogic.datahelix.generator.core.walker.pruner.TreePruner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Prunes the root node of each partition of a profile by values that were generated for its fields, as the reductive
+ * walker does once it has fixed a field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreePrunerBenchmark {
+    private static final int VALUES_PER_PARTITION = 10;
+
+    @State(Scope.Benchmark)
+    public static class Prunes {
+        @Param({"demoTrades", "partialContradictions", "userAccount"})
+        public String profile;
+
+        TreePruner treePruner;
+        final List<ConstraintNode> nodes = new ArrayList<>();
+        final List<Field> fields = new ArrayList<>();
+        final List<DataBagValue> values = new ArrayList<>();
+
+        @Setup
+        public void setUp() throws IOException {
+            ProfileFixture fixture = ProfileFixture.load(profile, DataGenerationType.RANDOM);
+            treePruner = fixture.getInstance(TreePruner.class);
+            DecisionTreeWalker walker = fixture.getInstance(DecisionTreeWalker.class);
+
+            for (DecisionTree partition : fixture.partitions) {
+                List<DataBag> dataBags = walker.walk(partition)
+                    .limit(VALUES_PER_PARTITION)
+                    .collect(Collectors.toList());
+
+                for (DataBag dataBag : dataBags) {
+                    for (Field field : partition.getFields()) {
+                        nodes.add(partition.getRootNode());
+                        fields.add(field);
+                        values.add(dataBag.getDataBagValue(field));
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void pruneConstraintNode(Prunes prunes, Blackhole blackhole) {
+        for (int i = 0; i < prunes.nodes.size(); i++) {
+            blackhole.consume(prunes.treePruner.pruneConstraintNode(
+                prunes.nodes.get(i),
+                prunes.fields.get(i),
+                prunes.values.get(i)));
+        }
+    }
+}
@@ -18,5 +18,6 @@ package com.scottlogic.datahelix.generator.common.output;
 
 public enum OutputFormat {
     CSV,
-    JSON
+    JSON,
+    PARQUET
 }
@@ -19,9 +19,10 @@ package com.scottlogic.datahelix.generator.common.output;
 import com.scottlogic.datahelix.generator.common.profile.Field;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SubGeneratedObject {
     List<Field> getFields();
-    List<GeneratedObject> getData();
+    Stream<GeneratedObject> getData();
     boolean isArray();
 }
@@ -26,6 +26,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 public class DateTimeGranularity implements Granularity<OffsetDateTime> {
     public static final DateTimeGranularity DEFAULT = new DateTimeGranularity(ChronoUnit.MILLIS, false);
@@ -71,6 +72,25 @@ public class DateTimeGranularity implements Granularity<OffsetDateTime> {
         return OffsetDateTime.from(temporalAdjusterGenerator.adjuster(amount).adjustInto(value));
     }
 
+    @Override
+    public OffsetDateTime getNext(OffsetDateTime value, long amount) {
+        return hasFixedSteps()
+            ? value.plus(amount, chronoUnit)
+            : Granularity.super.getNext(value, amount);
+    }
+
+    @Override
+    public OptionalLong getStepsBetween(OffsetDateTime from, OffsetDateTime to) {
+        return hasFixedSteps()
+            ? OptionalLong.of(from.until(to, chronoUnit))
+            : OptionalLong.empty();
+    }
+
+    // months and years vary in length, so stepping by them drifts from the end of a month, and working days skip weekends
+    private boolean hasFixedSteps() {
+        return !workingDay && chronoUnit.compareTo(ChronoUnit.WEEKS) <= 0;
+    }
+
     @Override
     public OffsetDateTime trimToGranularity(OffsetDateTime d) {
         // is there a generic way of doing this with chronounit?
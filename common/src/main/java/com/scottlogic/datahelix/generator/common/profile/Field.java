@@ -16,9 +16,16 @@
 
 package com.scottlogic.datahelix.generator.common.profile;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 public class Field {
+    private static final OrdinalRegistry ordinals = new OrdinalRegistry();
+
     private final String name;
     private final SpecificFieldType type;
     private final boolean unique;
@@ -26,6 +33,9 @@ public class Field {
     private final boolean internal;
     private final boolean nullable;
     private final String generator;
+    private int ordinal = -1;
+    private Field ordinalOwner;
+    private FieldFormatter formatter;
 
     public Field(String name, SpecificFieldType type, boolean unique, String formatting, boolean internal, boolean nullable, String generator) {
         this.name = name;
@@ -66,6 +76,30 @@ public class Field {
 
     public String getCustomGeneratorName() { return generator; }
 
+    /**
+     * A small number shared by this field and all fields equal to it, so that per-field data can be ordered and
+     * indexed without hashing. Numbers are handed out densely, and the number of a field is handed out again once it
+     * and every field equal to it are no longer in use, so the numbers stay small however many profiles are run.
+     */
+    public int getOrdinal() {
+        if (ordinal < 0) {
+            Field owner = ordinals.ownerOf(this);
+            ordinalOwner = owner;
+            ordinal = owner.ordinal;
+        }
+        return ordinal;
+    }
+
+    /**
+     * The formatting of this field, compiled on first use
+     */
+    public FieldFormatter getFormatter() {
+        if (formatter == null) {
+            formatter = FieldFormatter.compile(this);
+        }
+        return formatter;
+    }
+
     @Override
     public String toString() {
         return this.getName();
@@ -93,4 +127,47 @@ public class Field {
     {
         return name;
     }
+
+    /**
+     * Holds the first field to ask for an ordinal out of each set of equal fields, weakly, so that fields from runs
+     * that have finished can be collected. Every equal field keeps its owner reachable, so an ordinal is only released
+     * once no field that might still use it is left.
+     */
+    private static class OrdinalRegistry {
+        private final Map<Field, OrdinalReference> owners = new WeakHashMap<>();
+        private final ReferenceQueue<Field> collectedOwners = new ReferenceQueue<>();
+        private final BitSet ordinalsInUse = new BitSet();
+
+        synchronized Field ownerOf(Field field) {
+            releaseCollectedOrdinals();
+
+            OrdinalReference reference = owners.get(field);
+            Field owner = reference == null ? null : reference.get();
+            if (owner != null) {
+                return owner;
+            }
+
+            int ordinal = ordinalsInUse.nextClearBit(0);
+            ordinalsInUse.set(ordinal);
+            field.ordinal = ordinal;
+            owners.put(field, new OrdinalReference(field, collectedOwners));
+            return field;
+        }
+
+        private void releaseCollectedOrdinals() {
+            OrdinalReference reference;
+            while ((reference = (OrdinalReference) collectedOwners.poll()) != null) {
+                ordinalsInUse.clear(reference.ordinal);
+            }
+        }
+    }
+
+    private static class OrdinalReference extends WeakReference<Field> {
+        private final int ordinal;
+
+        OrdinalReference(Field owner, ReferenceQueue<Field> queue) {
+            super(owner, queue);
+            this.ordinal = owner.ordinal;
+        }
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.common.profile;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
+/**
+ * Applies a field's formatting to its values.
+ * <p>
+ * The formatting is inspected once, when the formatter is compiled, to decide how values are converted before being
+ * formatted. Patterns with an exact equivalent that doesn't need a {@link Formatter} are formatted directly; all others
+ * go through a {@link Formatter} that each thread reuses, rather than the new one that String.format creates per call.
+ */
+public abstract class FieldFormatter {
+    private static final FieldFormatter UNFORMATTED = new FieldFormatter() {
+        @Override
+        Object formatNonNull(Object value) {
+            return value;
+        }
+    };
+
+    private static final ThreadLocal<ReusableFormatter> formatters = ThreadLocal.withInitial(ReusableFormatter::new);
+
+    public static FieldFormatter compile(Field field) {
+        String formatting = field.getFormatting();
+        if (formatting == null) {
+            return UNFORMATTED;
+        }
+
+        FieldType type = field.getType();
+
+        boolean standardDigits = DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT))
+            .getZeroDigit() == '0';
+
+        if (type == FieldType.NUMERIC && (formatting.contains("d") || formatting.contains("x") || formatting.contains("o"))) {
+            return formatting.equals("%d") && standardDigits
+                ? new LongFormatter()
+                : new PatternFormatter(formatting, PatternFormatter.LONG_VALUE);
+        }
+        if (type == FieldType.NUMERIC && formatting.contains("a")) {
+            return new PatternFormatter(formatting, PatternFormatter.DOUBLE_VALUE);
+        }
+        if (type == FieldType.DATETIME && formatting.equals("%tF") && standardDigits) {
+            return new IsoDateFormatter(formatting);
+        }
+        return new PatternFormatter(formatting, PatternFormatter.UNCONVERTED);
+    }
+
+    /**
+     * @return The formatted value, or the value itself if it is null or the formatting can't be applied to it
+     */
+    public Object format(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        return formatNonNull(value);
+    }
+
+    abstract Object formatNonNull(Object value);
+
+    private static class PatternFormatter extends FieldFormatter {
+        private static final int UNCONVERTED = 0;
+        private static final int LONG_VALUE = 1;
+        private static final int DOUBLE_VALUE = 2;
+
+        private final String formatting;
+        private final int conversion;
+
+        PatternFormatter(String formatting, int conversion) {
+            this.formatting = formatting;
+            this.conversion = conversion;
+        }
+
+        @Override
+        Object formatNonNull(Object value) {
+            Object argument = convert(value);
+            try {
+                return formatters.get().format(formatting, argument);
+            } catch (IllegalFormatException e) {
+                return value;
+            }
+        }
+
+        private Object convert(Object value) {
+            switch (conversion) {
+                case LONG_VALUE:
+                    return ((BigDecimal) value).longValueExact();
+                case DOUBLE_VALUE:
+                    return ((BigDecimal) value).doubleValue();
+                default:
+                    return value;
+            }
+        }
+    }
+
+    /**
+     * Equivalent to a pattern of %d, when the locale uses standard digits
+     */
+    private static class LongFormatter extends FieldFormatter {
+        @Override
+        Object formatNonNull(Object value) {
+            return Long.toString(((BigDecimal) value).longValueExact());
+        }
+    }
+
+    /**
+     * Equivalent to a pattern of %tF for date-times, when the locale uses standard digits. Generated date-times are
+     * always within years 1 to 9999, which both print as four digits.
+     */
+    private static class IsoDateFormatter extends PatternFormatter {
+        IsoDateFormatter(String formatting) {
+            super(formatting, PatternFormatter.UNCONVERTED);
+        }
+
+        @Override
+        Object formatNonNull(Object value) {
+            if (value instanceof OffsetDateTime) {
+                return DateTimeFormatter.ISO_LOCAL_DATE.format((OffsetDateTime) value);
+            }
+
+            return super.formatNonNull(value);
+        }
+    }
+
+    private static class ReusableFormatter {
+        private final StringBuilder buffer = new StringBuilder();
+        private final Formatter formatter = new Formatter(buffer);
+
+        String format(String formatting, Object argument) {
+            buffer.setLength(0);
+            formatter.format(formatting, argument);
+            return buffer.toString();
+        }
+    }
+}
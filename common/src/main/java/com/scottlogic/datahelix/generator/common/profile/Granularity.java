@@ -18,6 +18,8 @@ package com.scottlogic.datahelix.generator.common.profile;
 
 import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
 
+import java.util.OptionalLong;
+
 public interface Granularity<T> {
     Granularity<T> getFinestGranularity();
 
@@ -37,5 +39,27 @@ public interface Granularity<T> {
 
     default T getPrevious(T value) { return getPrevious(value, 1);}
 
+    /**
+     * Returns the value the given number of steps on from the given value, for amounts beyond the range of an int.
+     */
+    default T getNext(T value, long amount) {
+        T next = value;
+        long remaining = amount;
+        while (remaining != 0) {
+            int step = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, remaining));
+            next = getNext(next, step);
+            remaining -= step;
+        }
+        return next;
+    }
+
+    /**
+     * Returns the number of whole steps from one value up to another, or empty if the steps vary in size, so the
+     * values between them can only be counted by stepping through them.
+     */
+    default OptionalLong getStepsBetween(T from, T to) {
+        return OptionalLong.empty();
+    }
+
     T getRandom(T inclusiveMin, T exclusiveMax, RandomNumberGenerator randomNumberGenerator);
 }
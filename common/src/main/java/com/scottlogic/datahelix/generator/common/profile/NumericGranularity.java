@@ -23,17 +23,21 @@ import com.scottlogic.datahelix.generator.common.util.defaults.NumericDefaults;
 import com.scottlogic.datahelix.generator.common.validators.ValidationResult;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 public class NumericGranularity implements Granularity<BigDecimal> {
     public static final NumericGranularity DECIMAL_DEFAULT = new NumericGranularity(20);
     public static final NumericGranularity INTEGER_DEFAULT = new NumericGranularity(0);
 
     private final int decimalPlaces;
+    private final BigDecimal step;
 
     public NumericGranularity(int decimalPlaces) {
         this.decimalPlaces = decimalPlaces;
+        this.step = BigDecimal.ONE.scaleByPowerOfTen(decimalPlaces * -1);
     }
 
     public static NumericGranularity create(Object granularity)
@@ -56,9 +60,14 @@ public class NumericGranularity implements Granularity<BigDecimal> {
         return NumericDefaults.get().granularity();
     }
 
+    public int getDecimalPlaces() {
+        return decimalPlaces;
+    }
+
     @Override
     public boolean isCorrectScale(BigDecimal value) {
-        return value.stripTrailingZeros().scale() <= decimalPlaces;
+        // most values are already at the scale of the granularity, and stripping their zeros would copy them
+        return value.scale() <= decimalPlaces || value.stripTrailingZeros().scale() <= decimalPlaces;
     }
 
     @Override
@@ -69,14 +78,27 @@ public class NumericGranularity implements Granularity<BigDecimal> {
 
     @Override
     public BigDecimal getNext(BigDecimal value, int amount) {
-        BigDecimal addAmount = BigDecimal.ONE.scaleByPowerOfTen(decimalPlaces * -1)
-            .multiply(BigDecimal.valueOf(amount));
+        BigDecimal addAmount = step.multiply(BigDecimal.valueOf(amount));
         return value.add(addAmount);
     }
 
     @Override
     public BigDecimal getNext(BigDecimal value) {
-        return value.add(BigDecimal.ONE.scaleByPowerOfTen(decimalPlaces * -1));
+        return value.add(step);
+    }
+
+    @Override
+    public BigDecimal getNext(BigDecimal value, long amount) {
+        return value.add(BigDecimal.valueOf(amount, decimalPlaces));
+    }
+
+    @Override
+    public OptionalLong getStepsBetween(BigDecimal from, BigDecimal to) {
+        BigInteger steps = to.subtract(from).movePointRight(decimalPlaces).setScale(0, RoundingMode.FLOOR).toBigInteger();
+        // leave room to count the values either side of the steps
+        return steps.bitLength() < Long.SIZE - 1
+            ? OptionalLong.of(steps.longValue())
+            : OptionalLong.empty();
     }
 
     @Override
@@ -88,8 +110,7 @@ public class NumericGranularity implements Granularity<BigDecimal> {
     @Override
     public BigDecimal getPrevious(BigDecimal value, int amount) {
         if (isCorrectScale(value)){
-            return value.subtract(BigDecimal.ONE.scaleByPowerOfTen(decimalPlaces * -1)
-                .multiply(BigDecimal.valueOf(amount)));
+            return value.subtract(step.multiply(BigDecimal.valueOf(amount)));
         }
 
         return trimToGranularity(value);
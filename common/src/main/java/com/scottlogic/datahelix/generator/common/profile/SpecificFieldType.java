@@ -64,6 +64,7 @@ public class SpecificFieldType {
 
     @Override
     public int hashCode() {
-        return Objects.hash(type, fieldType, formatting, fakerMethod);
+        // hash the name of the enum, as its own hash code differs from run to run and would reorder sets of fields
+        return Objects.hash(type, fieldType == null ? null : fieldType.name(), formatting, fakerMethod);
     }
 }
@@ -24,6 +24,7 @@ import java.time.Duration;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 public class TimeGranularity implements Granularity<LocalTime> {
     public static final TimeGranularity DEFAULT = new TimeGranularity(ChronoUnit.MILLIS);
@@ -78,6 +79,17 @@ public class TimeGranularity implements Granularity<LocalTime> {
 
     }
 
+    @Override
+    public LocalTime getNext(LocalTime value, long amount) {
+        value = value.truncatedTo(granularity);
+        return value.plus(granularity.getDuration().multipliedBy(amount));
+    }
+
+    @Override
+    public OptionalLong getStepsBetween(LocalTime from, LocalTime to) {
+        return OptionalLong.of(from.truncatedTo(granularity).until(to, granularity));
+    }
+
     @Override
     public LocalTime getPrevious(LocalTime value, int amount) {
         if (!isCorrectScale(value)) {
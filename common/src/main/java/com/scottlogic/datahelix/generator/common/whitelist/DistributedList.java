@@ -27,7 +27,14 @@ public class DistributedList<T> {
 
     private final List<WeightedElement<T>> underlyingWeights;
 
-    private final List<WeightedElement<T>> underlyingCumulativeWeights;
+    // built on the first random pick, as many lists are only ever iterated
+    private volatile AliasTable aliasTable;
+
+    // built on the first lookup by element, as many lists are never searched
+    private volatile Map<T, int[]> elementIndex;
+
+    // computed on first use, as lists can be long and are hashed on every lookup of the caches keyed on them
+    private int hash;
 
     public DistributedList(final List<WeightedElement<T>> underlyingWeights) {
         if (underlyingWeights.contains(null)) {
@@ -36,7 +43,6 @@ public class DistributedList<T> {
 
         List<WeightedElement<T>> normalisedWeights = normalise(underlyingWeights);
         this.underlyingWeights = Collections.unmodifiableList(normalisedWeights);
-        this.underlyingCumulativeWeights = cumulative(normalisedWeights);
     }
 
     private static <T> List<WeightedElement<T>> normalise(final List<WeightedElement<T>> denormalised) {
@@ -71,62 +77,151 @@ public class DistributedList<T> {
                 .collect(Collectors.toList()));
     }
 
-    private static <T> List<WeightedElement<T>> cumulative(List<WeightedElement<T>> nonCumulative) {
-        List<WeightedElement<T>> cumulative = new LinkedList<>();
-        double runningTotal = 0.0D;
-        for (WeightedElement<T> holder : nonCumulative) {
-            runningTotal += holder.weight();
-            cumulative.add(new WeightedElement<>(holder.element(), runningTotal));
-        }
+    @SuppressWarnings("unchecked")
+    public static <T> DistributedList<T> empty() {
+        return (DistributedList<T>) EMPTY;
+    }
 
-        if (!cumulative.isEmpty()) {
-           replaceLastCumulativeElement(cumulative);
-        }
+    public List<WeightedElement<T>> distributedList() {
+        return underlyingWeights;
+    }
 
-        return new ArrayList<>(cumulative);
+    /**
+     * Returns the element at the given position, in constant time.
+     */
+    public T get(int index) {
+        return underlyingWeights.get(index).element();
     }
 
-    private static <T> void replaceLastCumulativeElement(List<WeightedElement<T>> cumulative) {
-        int lastIndex = cumulative.size() - 1;
-        WeightedElement<T> last = cumulative.get(lastIndex);
-        cumulative.remove(lastIndex);
-        cumulative.add(new WeightedElement<>(last.element(), 1.0D));
+    public int size() {
+        return underlyingWeights.size();
     }
 
-    @SuppressWarnings("unchecked")
-    public static <T> DistributedList<T> empty() {
-        return (DistributedList<T>) EMPTY;
+    /**
+     * Whether the list holds the given element, in constant time.
+     */
+    public boolean contains(Object element) {
+        return index().containsKey(element);
     }
 
-    public List<WeightedElement<T>> distributedList() {
-        return underlyingWeights;
+    /**
+     * Returns every weighted entry holding the given element, in list order, or an empty list if there are none.
+     */
+    public List<WeightedElement<T>> weightedElementsOf(Object element) {
+        int[] indices = index().get(element);
+        if (indices == null) {
+            return Collections.emptyList();
+        }
+
+        List<WeightedElement<T>> holders = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            holders.add(underlyingWeights.get(index));
+        }
+        return holders;
     }
 
-    public T pickRandomly(RandomNumberGenerator random) {
-        return getElementFromCumulativeDistribution(1.0D - random.nextDouble(0.0D, 1.0D));
+    /**
+     * Returns the positions of each distinct element, in ascending order. The map must not be modified.
+     */
+    public Map<T, int[]> indicesByElement() {
+        return index();
     }
 
-    private T getElementFromCumulativeDistribution(final double value) {
-        List<Double> weights = underlyingCumulativeWeights.stream()
-            .map(WeightedElement::weight)
-            .collect(Collectors.toList());
+    private Map<T, int[]> index() {
+        Map<T, int[]> index = elementIndex;
+        if (index == null) {
+            Map<T, Integer> remaining = new HashMap<>();
+            for (WeightedElement<T> holder : underlyingWeights) {
+                remaining.merge(holder.element(), 1, Integer::sum);
+            }
+
+            index = new HashMap<>();
+            for (int i = 0; i < underlyingWeights.size(); i++) {
+                T element = underlyingWeights.get(i).element();
+                int[] indices = index.computeIfAbsent(element, e -> new int[remaining.get(e)]);
+                indices[indices.length - remaining.merge(element, -1, Integer::sum) - 1] = i;
+            }
+            elementIndex = index;
+        }
 
-        final int index = binarySearch(weights, value);
+        return index;
+    }
 
-        return underlyingCumulativeWeights.get(index).element();
+    /**
+     * Picks an element with probability proportional to its weight, in constant time, using a single random double.
+     */
+    public T pickRandomly(RandomNumberGenerator random) {
+        AliasTable table = aliasTable;
+        if (table == null) {
+            aliasTable = table = new AliasTable(underlyingWeights);
+        }
+
+        return underlyingWeights.get(table.pick(random.nextDouble(0.0D, 1.0D))).element();
     }
 
-    private static int binarySearch(List<Double> weights, double target) {
-        final int index = Collections.binarySearch(weights, target, Double::compare);
+    /**
+     * Vose's alias method: each of the n columns holds the probability of picking its own element, and the element
+     * to pick otherwise. The column is the integer part of the random value scaled by n, and the fractional part is
+     * compared with the column's probability.
+     */
+    private static class AliasTable {
+        private final double[] probabilities;
+        private final int[] aliases;
+
+        AliasTable(List<? extends WeightedElement<?>> weights) {
+            int size = weights.size();
+            probabilities = new double[size];
+            aliases = new int[size];
 
-        // We need to resolve the index.
-        // A positive index represents an exact match
-        // A negative index represents an inexact match
-        // See Collections.binarySearch javadoc for more information
-        if (index < 0) {
-            return (-index) - 1;
-        } else {
-            return index;
+            double[] scaled = new double[size];
+            int[] small = new int[size];
+            int[] large = new int[size];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < size; i++) {
+                scaled[i] = weights.get(i).weight() * size;
+                if (scaled[i] < 1.0D) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+
+                probabilities[less] = scaled[less];
+                aliases[less] = more;
+
+                scaled[more] = (scaled[more] + scaled[less]) - 1.0D;
+                if (scaled[more] < 1.0D) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+
+            // whatever remains is only short of 1 through rounding error
+            while (largeCount > 0) {
+                probabilities[large[--largeCount]] = 1.0D;
+            }
+            while (smallCount > 0) {
+                probabilities[small[--smallCount]] = 1.0D;
+            }
+        }
+
+        int pick(double value) {
+            double scaled = value * probabilities.length;
+            int column = (int) scaled;
+            if (column >= probabilities.length) {
+                // a value of 1, from a generator that includes its upper bound
+                return probabilities.length - 1;
+            }
+
+            return scaled - column < probabilities[column]
+                ? column
+                : aliases[column];
         }
     }
 
@@ -135,12 +230,16 @@ public class DistributedList<T> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         DistributedList<?> that = (DistributedList<?>) o;
-        return Objects.equals(underlyingWeights, that.underlyingWeights);
+        return hashCode() == that.hashCode() && Objects.equals(underlyingWeights, that.underlyingWeights);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(underlyingWeights);
+        int h = hash;
+        if (h == 0) {
+            hash = h = Objects.hash(underlyingWeights);
+        }
+        return h;
     }
 
     @Override
@@ -152,8 +251,21 @@ public class DistributedList<T> {
         return distributedList().stream().map(WeightedElement::element);
     }
 
+    /**
+     * Returns a read-only view of the elements, without copying them.
+     */
     public List<T> list() {
-        return stream().collect(Collectors.toList());
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return DistributedList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return DistributedList.this.size();
+            }
+        };
     }
 
     public boolean isEmpty(){
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.common.profile;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class FieldFormatterTests {
+    private static Field field(StandardSpecificFieldType type, String formatting) {
+        return new Field("field", type.toSpecificFieldType(), false, formatting, false, false, null);
+    }
+
+    @Test
+    void format_withNoFormatting_returnsValue() {
+        BigDecimal value = new BigDecimal("1.5");
+
+        assertThat(field(StandardSpecificFieldType.DECIMAL, null).getFormatter().format(value), equalTo(value));
+    }
+
+    @Test
+    void format_withNullValue_returnsNull() {
+        assertThat(field(StandardSpecificFieldType.DECIMAL, "%.2f").getFormatter().format(null), nullValue());
+    }
+
+    @Test
+    void format_withIntegerPattern_formatsAsLong() {
+        FieldFormatter formatter = field(StandardSpecificFieldType.INTEGER, "%d").getFormatter();
+
+        assertThat(formatter.format(new BigDecimal("-42")), equalTo(String.format("%d", -42L)));
+    }
+
+    @Test
+    void format_withHexPattern_formatsAsLong() {
+        FieldFormatter formatter = field(StandardSpecificFieldType.INTEGER, "0x%x").getFormatter();
+
+        assertThat(formatter.format(new BigDecimal("255")), equalTo("0xff"));
+    }
+
+    @Test
+    void format_withDecimalPattern_matchesStringFormat() {
+        FieldFormatter formatter = field(StandardSpecificFieldType.DECIMAL, "£%.2f").getFormatter();
+
+        assertThat(formatter.format(new BigDecimal("1.005")), equalTo(String.format("£%.2f", new BigDecimal("1.005"))));
+        assertThat(formatter.format(new BigDecimal("3")), equalTo(String.format("£%.2f", new BigDecimal("3"))));
+    }
+
+    @Test
+    void format_withIsoDatePattern_matchesStringFormat() {
+        OffsetDateTime value = OffsetDateTime.of(987, 6, 5, 4, 3, 2, 1, ZoneOffset.UTC);
+
+        Object formatted = field(StandardSpecificFieldType.DATETIME, "%tF").getFormatter().format(value);
+
+        assertThat(formatted, equalTo(String.format("%tF", value)));
+    }
+
+    @Test
+    void format_withPatternNotApplicableToValue_returnsValue() {
+        FieldFormatter formatter = field(StandardSpecificFieldType.STRING, "%tF").getFormatter();
+
+        assertThat(formatter.format("not a date"), equalTo("not a date"));
+    }
+}
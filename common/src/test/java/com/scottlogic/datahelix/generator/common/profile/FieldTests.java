@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.common.profile;
+
+import org.junit.jupiter.api.Test;
+
+import static com.scottlogic.datahelix.generator.common.profile.FieldBuilder.createField;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+class FieldTests {
+    @Test
+    void getOrdinal_equalFields_returnsTheSameOrdinal() {
+        Field field = createField("ordinal");
+        Field equalField = createField("ordinal");
+
+        assertThat(field.getOrdinal(), equalTo(equalField.getOrdinal()));
+    }
+
+    @Test
+    void getOrdinal_differentFields_returnsDifferentOrdinals() {
+        Field field = createField("ordinal");
+        Field otherField = createField("otherOrdinal");
+
+        assertThat(field.getOrdinal(), not(equalTo(otherField.getOrdinal())));
+    }
+
+    @Test
+    void getOrdinal_ofFieldsNoLongerInUse_isHandedOutAgain() {
+        int fieldCount = 100_000;
+        int highestOrdinal = 0;
+        for (int index = 0; index < fieldCount; index++) {
+            if (index % 1_000 == 0) {
+                System.gc();
+            }
+            highestOrdinal = Math.max(highestOrdinal, createField("discarded" + index).getOrdinal());
+        }
+
+        assertThat(highestOrdinal, lessThan(fieldCount));
+    }
+
+    @Test
+    void getOrdinal_calledRepeatedly_returnsTheSameOrdinal() {
+        Field field = createField("ordinal");
+
+        assertThat(field.getOrdinal(), equalTo(field.getOrdinal()));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DaemonThreadFactoryTests {
+    @Test
+    void newThread_createsNamedDaemonThreads() {
+        Thread thread = new DaemonThreadFactory("worker").newThread(() -> { });
+
+        assertTrue(thread.isDaemon());
+        assertEquals("worker-1", thread.getName());
+    }
+
+    @Test
+    void newIdleExitingThreadPool_onceIdle_holdsNoThreads() throws InterruptedException {
+        ThreadPoolExecutor executor = DaemonThreadFactory.newIdleExitingThreadPool("worker", 2);
+        CountDownLatch finished = new CountDownLatch(2);
+        executor.execute(finished::countDown);
+        executor.execute(finished::countDown);
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getPoolSize() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(0, executor.getPoolSize());
+        assertFalse(executor.isShutdown());
+    }
+}
@@ -21,7 +21,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -109,6 +111,51 @@ class DistributedListTest {
         assertEquals(fourthValue, otherFourthValue);
     }
 
+    @Test
+    public void testRandomPickFollowsWeights() {
+        DistributedList<String> set = new DistributedList<>(Arrays.asList(
+            new WeightedElement<>("first", 1),
+            new WeightedElement<>("second", 2),
+            new WeightedElement<>("third", 5)));
+
+        Map<String, Integer> counts = new HashMap<>();
+        int picks = 8000;
+        for (int i = 0; i < picks; i++) {
+            counts.merge(set.pickRandomly(mockOfRandom((i + 0.5D) / picks)), 1, Integer::sum);
+        }
+
+        assertEquals(1000, counts.get("first"), 3);
+        assertEquals(2000, counts.get("second"), 3);
+        assertEquals(5000, counts.get("third"), 3);
+    }
+
+    @Test
+    public void testLookupByElement() {
+        DistributedList<String> set = new DistributedList<>(Arrays.asList(
+            new WeightedElement<>("first", 1),
+            new WeightedElement<>("second", 2),
+            new WeightedElement<>("first", 5)));
+
+        assertTrue(set.contains("first"));
+        assertFalse(set.contains("third"));
+        assertEquals(
+            Arrays.asList(new WeightedElement<>("first", 0.125D), new WeightedElement<>("first", 0.625D)),
+            set.weightedElementsOf("first"));
+        assertEquals(Collections.emptyList(), set.weightedElementsOf("third"));
+    }
+
+    @Test
+    public void testIndexedAccess() {
+        DistributedList<String> set = DistributedList.uniform(Arrays.asList("first", "second", "first", "third"));
+
+        assertEquals(4, set.size());
+        assertEquals("second", set.get(1));
+        assertEquals(Arrays.asList("first", "second", "first", "third"), set.list());
+        assertArrayEquals(new int[]{ 0, 2 }, set.indicesByElement().get("first"));
+        assertArrayEquals(new int[]{ 3 }, set.indicesByElement().get("third"));
+        assertNull(set.indicesByElement().get("fourth"));
+    }
+
     private static RandomNumberGenerator mockOfRandom(double value) {
         RandomNumberGenerator generator = mock(RandomNumberGenerator.class);
         when(generator.nextDouble(0.0D, 1.0D)).thenReturn(value);
@@ -27,6 +27,7 @@ import com.scottlogic.datahelix.generator.common.util.FlatMappingSpliterator;
 import com.scottlogic.datahelix.generator.core.decisiontree.DecisionTree;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,7 +37,7 @@ import java.util.stream.Stream;
  */
 public class TreePartitioner {
     private final ConstraintToFieldMapper fieldMapper;
-    private static Integer partitionIndex = 0;
+    private static final AtomicInteger partitionIndex = new AtomicInteger();
 
     public TreePartitioner() {
         fieldMapper = new ConstraintToFieldMapper();
@@ -141,7 +142,7 @@ public class TreePartitioner {
 
         Integer addPartition(Set<Field> fields, Set<RootLevelConstraint> constraints) {
             final Partition newPartition = new Partition(
-                partitionIndex++,
+                partitionIndex.getAndIncrement(),
                 fields,
                 constraints);
 
@@ -163,7 +164,7 @@ public class TreePartitioner {
             final Set<RootLevelConstraint> constraints = getFromAllPartitions(partitions, partition -> partition.constraints);
 
             final Partition newPartition = new Partition(
-                partitionIndex++,
+                partitionIndex.getAndIncrement(),
                 fields,
                 constraints);
             idToPartition.put(newPartition.id, newPartition);
@@ -23,7 +23,9 @@ import com.scottlogic.datahelix.generator.core.restrictions.string.StringRestric
 import com.scottlogic.datahelix.generator.core.restrictions.TypedRestrictions;
 import com.scottlogic.datahelix.generator.core.restrictions.linear.LinearRestrictionsMerger;
 import com.scottlogic.datahelix.generator.common.SetUtils;
+import com.scottlogic.datahelix.generator.core.utils.MemoCache;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -33,6 +35,7 @@ import java.util.stream.Collectors;
 public class FieldSpecMerger {
     private final RestrictionsMergeOperation restrictionMergeOperation =
         new RestrictionsMergeOperation(new LinearRestrictionsMerger(), new StringRestrictionsMerger(), new BooleanRestrictionsMerger());
+    private final MemoCache<MergeKey, Optional<FieldSpec>> cache = new MemoCache<>("Field spec merge", 10_000);
 
     /**
      * Null parameters are permitted, and are synonymous with an empty FieldSpec
@@ -40,6 +43,16 @@ public class FieldSpecMerger {
      * Returning an empty Optional conveys that the fields were unmergeable.
      */
     public Optional<FieldSpec> merge(FieldSpec left, FieldSpec right, boolean useFinestGranularityAvailable) {
+        return cache.get(
+            new MergeKey(left, right, useFinestGranularityAvailable),
+            () -> mergeUncached(left, right, useFinestGranularityAvailable));
+    }
+
+    public MemoCache<?, ?> getCache() {
+        return cache;
+    }
+
+    private Optional<FieldSpec> mergeUncached(FieldSpec left, FieldSpec right, boolean useFinestGranularityAvailable) {
         if (nullOnly(left) || nullOnly(right)){
             return nullOnlyOrEmpty(bothAreNullable(left, right));
         }
@@ -74,9 +87,9 @@ public class FieldSpecMerger {
     //TODO try a performance test with this replaced with combineSetWithRestrictions()
 
     private Optional<FieldSpec> mergeSets(WhitelistFieldSpec left, WhitelistFieldSpec right) {
+        DistributedList<Object> rightWhitelist = right.getWhitelist();
         DistributedList<Object> set = new DistributedList<>(left.getWhitelist().distributedList().stream()
-            .flatMap(leftHolder -> right.getWhitelist().distributedList().stream()
-                .filter(rightHolder -> elementsEqual(leftHolder, rightHolder))
+            .flatMap(leftHolder -> rightWhitelist.weightedElementsOf(leftHolder.element()).stream()
                 .map(rightHolder -> mergeElements(leftHolder, rightHolder)))
             .distinct()
             .collect(Collectors.toList()));
@@ -84,9 +97,6 @@ public class FieldSpecMerger {
         FieldSpec newFieldSpec = set.isEmpty() ? FieldSpecFactory.nullOnly() : FieldSpecFactory.fromList(set);
         return addNullability(left.isNullable(), right.isNullable(), newFieldSpec);
     }
-    private static <T> boolean elementsEqual(WeightedElement<T> left, WeightedElement<T> right) {
-        return left.element().equals(right.element());
-    }
 
     private Optional<FieldSpec> combineSetWithRestrictions(WhitelistFieldSpec set, FieldSpec restrictions) {
         DistributedList<Object> newSet = new DistributedList<>(
@@ -143,4 +153,34 @@ public class FieldSpecMerger {
     private Optional<FieldSpec> nullOnlyOrEmpty(boolean nullable) {
         return nullable ? Optional.of(FieldSpecFactory.nullOnly()) : Optional.empty();
     }
+
+    private static class MergeKey {
+        private final FieldSpec left;
+        private final FieldSpec right;
+        private final boolean useFinestGranularityAvailable;
+        private final int hash;
+
+        MergeKey(FieldSpec left, FieldSpec right, boolean useFinestGranularityAvailable) {
+            this.left = left;
+            this.right = right;
+            this.useFinestGranularityAvailable = useFinestGranularityAvailable;
+            this.hash = Objects.hash(left, right, useFinestGranularityAvailable);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            MergeKey that = (MergeKey) o;
+            return hash == that.hash &&
+                useFinestGranularityAvailable == that.useFinestGranularityAvailable &&
+                Objects.equals(left, that.left) &&
+                Objects.equals(right, that.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
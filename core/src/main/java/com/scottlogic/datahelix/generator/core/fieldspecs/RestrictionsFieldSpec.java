@@ -26,6 +26,7 @@ import java.util.Set;
 public class RestrictionsFieldSpec extends FieldSpec {
     private final TypedRestrictions restrictions;
     private final Set<Object> blacklist;
+    private int hash;
 
     RestrictionsFieldSpec(TypedRestrictions restrictions, boolean nullable, Set<Object> blacklist) {
         super(nullable);
@@ -73,13 +74,19 @@ public class RestrictionsFieldSpec extends FieldSpec {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         RestrictionsFieldSpec that = (RestrictionsFieldSpec) o;
-        return Objects.equals(restrictions, that.restrictions) &&
+        return hashCode() == that.hashCode() &&
+            Objects.equals(restrictions, that.restrictions) &&
             Objects.equals(blacklist, that.blacklist) &&
             Objects.equals(nullable, that.nullable);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(restrictions, blacklist, nullable);
+        // the blacklist can be long, and specs are hashed on every lookup of the merge cache
+        int h = hash;
+        if (h == 0) {
+            hash = h = Objects.hash(restrictions, blacklist, nullable);
+        }
+        return h;
     }
 }
@@ -24,8 +24,10 @@ import com.scottlogic.datahelix.generator.core.generation.databags.DataBagValue;
 import com.scottlogic.datahelix.generator.core.profile.constraints.Constraint;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class InMapIndexRelation implements FieldSpecRelation
 {
@@ -41,14 +43,19 @@ public class InMapIndexRelation implements FieldSpecRelation
 
     @Override
     public FieldSpec createModifierFromOtherFieldSpec(FieldSpec otherFieldSpec) {
-        List<Object> whiteList = new ArrayList<>();
-
-        for (int i = 0; i < underlyingList.list().size(); i++) {
-            Object testingElement = underlyingList.list().get(i);
-            if (otherFieldSpec.canCombineWithWhitelistValue(testingElement)) {
-                whiteList.add(BigDecimal.valueOf(i));
+        // each distinct value is tested once, however many rows of the map hold it
+        BitSet allowedIndices = new BitSet(underlyingList.size());
+        for (Map.Entry<Object, int[]> entry : underlyingList.indicesByElement().entrySet()) {
+            if (otherFieldSpec.canCombineWithWhitelistValue(entry.getKey())) {
+                for (int index : entry.getValue()) {
+                    allowedIndices.set(index);
+                }
             }
         }
+
+        List<Object> whiteList = allowedIndices.stream()
+            .mapToObj(BigDecimal::valueOf)
+            .collect(Collectors.toList());
         return FieldSpecFactory.fromList(DistributedList.uniform(whiteList)).withNotNull();
     }
 
@@ -46,7 +46,7 @@ public class InMapRelation implements FieldSpecRelation
     public FieldSpec createModifierFromOtherValue(DataBagValue otherFieldGeneratedValue) {
         BigDecimal value = (BigDecimal) otherFieldGeneratedValue.getValue();
 
-        DistributedList<Object> newList = DistributedList.singleton(underlyingList.list().get(value.intValue()));
+        DistributedList<Object> newList = DistributedList.singleton(underlyingList.get(value.intValue()));
         return FieldSpecFactory.fromList(newList);
     }
 
@@ -17,15 +17,22 @@
 package com.scottlogic.datahelix.generator.core.generation;
 
 import com.google.inject.Inject;
+import com.scottlogic.datahelix.generator.core.utils.MemoCache;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
 
 public abstract class AbstractDataGeneratorMonitor implements DataGeneratorMonitor {
     final PrintWriter writer;
 
     private List<String> linesToPrintAtEndOfGeneration = new ArrayList<>();
+    private List<MemoCache<?, ?>> cachesToReportAtEndOfGeneration = new ArrayList<>();
+    private List<QueueDepth> queuesToReportAtEndOfGeneration = new CopyOnWriteArrayList<>();
 
     @Inject
     AbstractDataGeneratorMonitor(PrintWriter writer) {
@@ -34,9 +41,26 @@ public abstract class AbstractDataGeneratorMonitor implements DataGeneratorMonit
 
     public void endGeneration() {
         linesToPrintAtEndOfGeneration.forEach(writer::println);
+        // caches of the same name, from each generator of a sharded run, are reported together
+        cachesToReportAtEndOfGeneration.stream()
+            .collect(Collectors.groupingBy(MemoCache::getName, LinkedHashMap::new, Collectors.toList()))
+            .forEach((name, caches) -> writer.println(MemoCache.describeTotals(name, caches)));
+        queuesToReportAtEndOfGeneration.forEach(writer::println);
     }
 
     public void addLineToPrintAtEndOfGeneration(String line) {
         linesToPrintAtEndOfGeneration.add(line);
     }
+
+    public void addCacheToReportAtEndOfGeneration(MemoCache<?, ?> cache) {
+        cachesToReportAtEndOfGeneration.add(cache);
+    }
+
+    public void addQueueToReportAtEndOfGeneration(String name, IntSupplier depth, int capacity) {
+        queuesToReportAtEndOfGeneration.add(new QueueDepth(name, depth, capacity));
+    }
+
+    void sampleQueueDepths() {
+        queuesToReportAtEndOfGeneration.forEach(QueueDepth::sample);
+    }
 }
\ No newline at end of file
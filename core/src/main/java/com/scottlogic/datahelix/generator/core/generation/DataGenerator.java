@@ -16,6 +16,8 @@
 
 package com.scottlogic.datahelix.generator.core.generation;
 
+import com.scottlogic.datahelix.generator.core.generation.batch.ColumnBatch;
+import com.scottlogic.datahelix.generator.core.generation.batch.ColumnBatches;
 import com.scottlogic.datahelix.generator.core.profile.Profile;
 import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
 
@@ -23,4 +25,12 @@ import java.util.stream.Stream;
 
 public interface DataGenerator {
     Stream<GeneratedObject> generateData(Profile profile);
+
+    /**
+     * Generates the same rows as generateData, gathered into batches of up to batchSize rows that hold the values of
+     * each field together, in primitive arrays where they fit
+     */
+    default Stream<ColumnBatch> generateBatches(Profile profile, int batchSize) {
+        return ColumnBatches.of(profile.getFields(), generateData(profile), batchSize);
+    }
 }
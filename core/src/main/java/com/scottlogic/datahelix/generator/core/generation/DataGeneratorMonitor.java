@@ -17,10 +17,15 @@
 package com.scottlogic.datahelix.generator.core.generation;
 
 import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.core.utils.MemoCache;
+
+import java.util.function.IntSupplier;
 
 public interface DataGeneratorMonitor {
     default void generationStarting() {}
     default void rowEmitted(GeneratedObject row) {}
     default void endGeneration() {}
     void addLineToPrintAtEndOfGeneration(String line);
+    default void addCacheToReportAtEndOfGeneration(MemoCache<?, ?> cache) {}
+    default void addQueueToReportAtEndOfGeneration(String name, IntSupplier depth, int capacity) {}
 }
@@ -31,7 +31,12 @@ import com.scottlogic.datahelix.generator.core.generation.visualiser.VisualiserF
 import com.scottlogic.datahelix.generator.core.profile.Profile;
 import com.scottlogic.datahelix.generator.core.walker.DecisionTreeWalker;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class DecisionTreeDataGenerator implements DataGenerator {
@@ -47,6 +52,11 @@ public class DecisionTreeDataGenerator implements DataGenerator {
     private final VisualiserFactory visualiserFactory;
     private final RelationshipsDataGenerator relationshipsDataGenerator;
 
+    // relationship sub-profiles are generated once per parent row, so each profile is only compiled once per run;
+    // profiles are held weakly, so that an embedder generating from many profiles doesn't keep all of their trees
+    private final Map<Profile, List<DecisionTree>> compiledPartitions =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     @Inject
     public DecisionTreeDataGenerator(
         DecisionTreeFactory decisionTreeGenerator,
@@ -71,18 +81,12 @@ public class DecisionTreeDataGenerator implements DataGenerator {
 
     @Override
     public Stream<GeneratedObject> generateData(Profile profile) {
-        DecisionTree decisionTree = decisionTreeGenerator.analyse(profile);
-        visualiseTree(decisionTree,  INITIAL_TREE_VISUALISER_TITLE);
-
-        decisionTree = upfrontTreePruner.runUpfrontPrune(decisionTree, monitor);
-        visualiseTree(decisionTree, PRUNED_TREE_VISUALISER_TITLE);
-        if (decisionTree.getRootNode() == null) {
+        List<DecisionTree> partitions = getCompiledPartitions(profile);
+        if (partitions.isEmpty()) {
             return Stream.empty();
         }
 
-        Stream<Supplier<Stream<DataBag>>> partitionedDataBags = treePartitioner
-            .splitTreeIntoPartitions(decisionTree)
-            .map(treeOptimiser::optimiseTree)
+        Stream<Supplier<Stream<DataBag>>> partitionedDataBags = partitions.stream()
             .map(tree -> () -> treeWalker.walk(tree));
 
         return partitionCombiner.permute(partitionedDataBags)
@@ -93,6 +97,42 @@ public class DecisionTreeDataGenerator implements DataGenerator {
                 this));
     }
 
+    /**
+     * Compiles the profile outside of any lock, as compiling can take a while. Two threads compiling the same profile
+     * at once will both compile it, and the first result stored is the one kept.
+     */
+    private List<DecisionTree> getCompiledPartitions(Profile profile) {
+        List<DecisionTree> partitions = compiledPartitions.get(profile);
+        if (partitions != null) {
+            return partitions;
+        }
+
+        List<DecisionTree> compiled = compilePartitions(profile);
+        List<DecisionTree> existing = compiledPartitions.putIfAbsent(profile, compiled);
+        return existing != null ? existing : compiled;
+    }
+
+    /**
+     * Analyse, prune, partition and optimise the profile's decision tree
+     *
+     * @return The optimised partitions, or no partitions if the profile is wholly contradictory
+     */
+    private List<DecisionTree> compilePartitions(Profile profile) {
+        DecisionTree decisionTree = decisionTreeGenerator.analyse(profile);
+        visualiseTree(decisionTree,  INITIAL_TREE_VISUALISER_TITLE);
+
+        decisionTree = upfrontTreePruner.runUpfrontPrune(decisionTree, monitor);
+        visualiseTree(decisionTree, PRUNED_TREE_VISUALISER_TITLE);
+        if (decisionTree.getRootNode() == null) {
+            return Collections.emptyList();
+        }
+
+        return treePartitioner
+            .splitTreeIntoPartitions(decisionTree)
+            .map(treeOptimiser::optimiseTree)
+            .collect(Collectors.toList());
+    }
+
     private void visualiseTree(DecisionTree decisionTree, String title) {
         try (Visualiser visualiser = visualiserFactory.create(VisualiserLevel.STANDARD, title)) {
             visualiser.printTree(title, decisionTree);
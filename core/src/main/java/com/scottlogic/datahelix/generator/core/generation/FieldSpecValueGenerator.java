@@ -17,31 +17,33 @@
 package com.scottlogic.datahelix.generator.core.generation;
 
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
 import com.scottlogic.datahelix.generator.common.profile.Field;
 import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
 import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpec;
 import com.scottlogic.datahelix.generator.core.generation.databags.DataBagValue;
 import com.scottlogic.datahelix.generator.core.generation.fieldvaluesources.FieldValueSource;
-import com.scottlogic.datahelix.generator.core.utils.JavaUtilRandomNumberGenerator;
 
 import java.util.stream.Stream;
 
 public class FieldSpecValueGenerator {
     private final DataGenerationType dataType;
     private final RandomNumberGenerator randomNumberGenerator;
+    private final boolean shuffleUniqueValues;
 
-    @Inject
     public FieldSpecValueGenerator(DataGenerationType dataGenerationType,
-                                   JavaUtilRandomNumberGenerator randomNumberGenerator) {
-        this.dataType = dataGenerationType;
-        this.randomNumberGenerator = randomNumberGenerator;
+                                   RandomNumberGenerator randomNumberGenerator) {
+        this(dataGenerationType, randomNumberGenerator, false);
     }
 
+    @Inject
     public FieldSpecValueGenerator(DataGenerationType dataGenerationType,
-                                   RandomNumberGenerator randomNumberGenerator) {
+                                   RandomNumberGenerator randomNumberGenerator,
+                                   @Named("config:shuffleUniqueValues") boolean shuffleUniqueValues) {
         this.dataType = dataGenerationType;
         this.randomNumberGenerator = randomNumberGenerator;
+        this.shuffleUniqueValues = shuffleUniqueValues;
     }
 
     public boolean isRandom() {
@@ -57,8 +59,10 @@ public class FieldSpecValueGenerator {
 
     private Stream<Object> getDataValues(FieldValueSource source, boolean unique) {
         if (unique) {
-            return source.generateAllValues();
-        } 
+            return shuffleUniqueValues && isRandom()
+                ? source.generateUniqueRandomValues(randomNumberGenerator)
+                : source.generateAllValues();
+        }
 
         switch (dataType) {
             case FULL_SEQUENTIAL:
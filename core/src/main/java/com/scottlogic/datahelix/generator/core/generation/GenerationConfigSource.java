@@ -28,6 +28,10 @@ public interface GenerationConfigSource  {
     CombinationStrategyType getCombinationStrategyType();
     Long getMaxRows();
     boolean getInfiniteOutput();
+    int getPartitionThreads();
+    int getThreads();
+    Long getSeed();
+    boolean getShuffleUniqueValues();
 
     MonitorType getMonitorType();
 
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation;
+
+import java.util.Locale;
+import java.util.function.IntSupplier;
+
+/**
+ * The depth of a queue, sampled while generating, to report how full it ran on average and at its fullest.
+ */
+class QueueDepth {
+    private final String name;
+    private final IntSupplier depth;
+    private final int capacity;
+    private long samples;
+    private long totalDepth;
+    private int peakDepth;
+
+    QueueDepth(String name, IntSupplier depth, int capacity) {
+        this.name = name;
+        this.depth = depth;
+        this.capacity = capacity;
+    }
+
+    synchronized void sample() {
+        int current = depth.getAsInt();
+        samples++;
+        totalDepth += current;
+        peakDepth = Math.max(peakDepth, current);
+    }
+
+    @Override
+    public synchronized String toString() {
+        if (samples == 0) {
+            return String.format("%s of %d rows: not sampled", name, capacity);
+        }
+
+        return String.format(
+            Locale.ROOT,
+            "%s of %d rows: average depth %.1f, peak depth %d, over %d samples",
+            name,
+            capacity,
+            (double) totalDepth / samples,
+            peakDepth,
+            samples);
+    }
+}
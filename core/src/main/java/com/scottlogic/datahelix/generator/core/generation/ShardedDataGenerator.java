@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation;
+
+import com.scottlogic.datahelix.generator.common.SetUtils;
+import com.scottlogic.datahelix.generator.common.ValidationException;
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.common.util.DaemonThreadFactory;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.profile.Profile;
+import com.scottlogic.datahelix.generator.core.utils.BufferedIterator;
+import com.scottlogic.datahelix.generator.core.utils.RoundRobinIterator;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs each of a number of independent generators on its own thread and interleaves their rows, one from each
+ * generator in turn, so the merged output is the same on every run with the same shards.
+ *
+ * Each generator is set up (the profile analysed and its tree partitioned) on the calling thread, in order, as parts
+ * of the tree are kept in hash sets whose iteration order can otherwise depend on which thread first hashed them.
+ * Only the rows themselves are produced concurrently.
+ *
+ * The generators share nothing, so each would produce the same rows as the others in FULL_SEQUENTIAL mode, and the
+ * same values of any unique field in any mode. Sharding is therefore only allowed for RANDOM generation of profiles
+ * without unique fields.
+ */
+public class ShardedDataGenerator implements DataGenerator {
+    private final List<DataGenerator> shards;
+    private final DataGenerationType generationType;
+    private final ExecutorService executor;
+    private final int bufferSize;
+
+    //created by DataGeneratorProvider
+    public ShardedDataGenerator(List<DataGenerator> shards, DataGenerationType generationType, int bufferSize) {
+        this.shards = shards;
+        this.generationType = generationType;
+        this.executor = DaemonThreadFactory.newIdleExitingThreadPool("generator-shard", shards.size());
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public Stream<GeneratedObject> generateData(Profile profile) {
+        validate(profile);
+
+        List<Iterator<GeneratedObject>> shardIterators = shards.stream()
+            .map(shard -> shard.generateData(profile))
+            .map(rows -> new BufferedIterator<>(rows::iterator, executor, bufferSize))
+            .collect(Collectors.toList());
+
+        return SetUtils.stream(new RoundRobinIterator<>(shardIterators));
+    }
+
+    private void validate(Profile profile) {
+        if (generationType != DataGenerationType.RANDOM) {
+            throw new ValidationException(
+                "--threads can only be used with RANDOM generation, as each thread would generate the same rows in " +
+                    generationType + " mode");
+        }
+
+        profile.getFields().stream()
+            .filter(Field::isUnique)
+            .findFirst()
+            .ifPresent(field -> {
+                throw new ValidationException(
+                    "--threads cannot be used with unique fields, as each thread would generate the same values for " +
+                        "field '" + field.getName() + "'");
+            });
+    }
+}
@@ -60,6 +60,7 @@ public class VelocityMonitor extends AbstractDataGeneratorMonitor {
             public void run() {
                 reportVelocity(rowsSinceLastSample);
                 rowsSinceLastSample = 0;
+                sampleQueueDepths();
             }
         }, 1000L, 1000L);
     }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.batch;
+
+import com.scottlogic.datahelix.generator.common.profile.Field;
+
+import java.util.BitSet;
+
+/**
+ * The values of one field for every row of a batch. Null values are marked in the null bitmap, and hold the default
+ * value of the column's array.
+ */
+public abstract class Column {
+    private final Field field;
+    private final BitSet nulls;
+
+    Column(Field field, BitSet nulls) {
+        this.field = field;
+        this.nulls = nulls;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public abstract ColumnType getType();
+
+    public boolean isNull(int row) {
+        return nulls.get(row);
+    }
+
+    /** The rows whose value is null */
+    public BitSet getNulls() {
+        return nulls;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.batch;
+
+import com.scottlogic.datahelix.generator.common.profile.Field;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/** A number of generated rows, held column by column in the order of the profile's fields */
+public class ColumnBatch {
+    private final int size;
+    private final List<Column> columns;
+
+    ColumnBatch(int size, Column[] columns) {
+        this.size = size;
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+    }
+
+    /** The number of rows in the batch */
+    public int size() {
+        return size;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public Column getColumn(Field field) {
+        for (Column column : columns) {
+            if (column.getField().equals(field)) {
+                return column;
+            }
+        }
+
+        throw new IllegalArgumentException("Batch has no column for " + field);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.batch;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.common.profile.Fields;
+import com.scottlogic.datahelix.generator.common.profile.StandardSpecificFieldType;
+import com.scottlogic.datahelix.generator.core.generation.databags.DataBag;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Gathers generated rows into batches, column by column.
+ *
+ * Each column is held in a primitive array when every value in the batch fits one exactly: integers in a long[],
+ * decimals with no more than 15 significant digits in a double[], datetimes as milliseconds since the epoch and times as
+ * milliseconds since midnight in a long[], booleans in a boolean[] and strings in a String[]. Otherwise the batch holds
+ * the values of that column as they were generated.
+ */
+public class ColumnBatches {
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+    private static final long NANOS_IN_MILLI = 1_000_000;
+
+    private ColumnBatches() {
+    }
+
+    public static Stream<ColumnBatch> of(Fields fields, Stream<GeneratedObject> rows, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+
+        Iterator<ColumnBatch> batches = new BatchingIterator(fields, rows.iterator(), batchSize);
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+            .onClose(rows::close);
+    }
+
+    private static class BatchingIterator implements Iterator<ColumnBatch> {
+        private final Iterator<GeneratedObject> rows;
+        private final int batchSize;
+        private final Field[] fields;
+        private final Field[] fieldsInOrdinalOrder;
+        private final int[] columnOfOrdinalOrder;
+        private final Object[] rowValues;
+
+        private BatchingIterator(Fields fields, Iterator<GeneratedObject> rows, int batchSize) {
+            this.rows = rows;
+            this.batchSize = batchSize;
+            this.fields = fields.getExternalStream().toArray(Field[]::new);
+
+            Integer[] columns = new Integer[this.fields.length];
+            for (int column = 0; column < columns.length; column++) {
+                columns[column] = column;
+            }
+            Arrays.sort(columns, Comparator.comparingInt(column -> this.fields[column].getOrdinal()));
+
+            this.fieldsInOrdinalOrder = new Field[columns.length];
+            this.columnOfOrdinalOrder = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                fieldsInOrdinalOrder[i] = this.fields[columns[i]];
+                columnOfOrdinalOrder[i] = columns[i];
+            }
+            this.rowValues = new Object[columns.length];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public ColumnBatch next() {
+            if (!rows.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Object[][] cells = new Object[fields.length][batchSize];
+            int size = 0;
+            while (size < batchSize && rows.hasNext()) {
+                GeneratedObject row = rows.next();
+                if (row instanceof DataBag) {
+                    ((DataBag) row).copyValues(fieldsInOrdinalOrder, rowValues);
+                    for (int i = 0; i < rowValues.length; i++) {
+                        cells[columnOfOrdinalOrder[i]][size] = rowValues[i];
+                    }
+                } else {
+                    for (int column = 0; column < fields.length; column++) {
+                        cells[column][size] = row.getValue(fields[column]);
+                    }
+                }
+                size++;
+            }
+
+            Column[] columns = new Column[fields.length];
+            for (int column = 0; column < fields.length; column++) {
+                columns[column] = toColumn(fields[column], cells[column], size);
+            }
+            return new ColumnBatch(size, columns);
+        }
+    }
+
+    private static Column toColumn(Field field, Object[] cells, int size) {
+        BitSet nulls = new BitSet(size);
+        for (int row = 0; row < size; row++) {
+            if (cells[row] == null) {
+                nulls.set(row);
+            }
+        }
+
+        Column column = toPrimitiveColumn(field, cells, size, nulls);
+        return column != null
+            ? column
+            : new ObjectColumn(field, nulls, Arrays.copyOf(cells, size));
+    }
+
+    /** The values as a column of primitives, or null if any of them can't be held exactly */
+    private static Column toPrimitiveColumn(Field field, Object[] cells, int size, BitSet nulls) {
+        try {
+            switch (field.getType()) {
+                case NUMERIC:
+                    return StandardSpecificFieldType.INTEGER.getType().equals(field.getSpecificType().getType())
+                        ? toIntegerColumn(field, cells, size, nulls)
+                        : toDecimalColumn(field, cells, size, nulls);
+                case DATETIME:
+                    long[] instants = new long[size];
+                    for (int row = 0; row < size; row++) {
+                        if (cells[row] != null) {
+                            instants[row] = ((OffsetDateTime) cells[row]).toInstant().toEpochMilli();
+                        }
+                    }
+                    return new LongColumn(field, nulls, instants);
+                case TIME:
+                    long[] times = new long[size];
+                    for (int row = 0; row < size; row++) {
+                        if (cells[row] != null) {
+                            times[row] = ((LocalTime) cells[row]).toNanoOfDay() / NANOS_IN_MILLI;
+                        }
+                    }
+                    return new LongColumn(field, nulls, times);
+                case BOOLEAN:
+                    boolean[] booleans = new boolean[size];
+                    for (int row = 0; row < size; row++) {
+                        if (cells[row] != null) {
+                            booleans[row] = (Boolean) cells[row];
+                        }
+                    }
+                    return new BooleanColumn(field, nulls, booleans);
+                default:
+                    String[] strings = new String[size];
+                    for (int row = 0; row < size; row++) {
+                        if (cells[row] != null) {
+                            strings[row] = cells[row].toString();
+                        }
+                    }
+                    return new StringColumn(field, nulls, strings);
+            }
+        } catch (ClassCastException | ArithmeticException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Column toIntegerColumn(Field field, Object[] cells, int size, BitSet nulls) {
+        long[] integers = new long[size];
+        for (int row = 0; row < size; row++) {
+            if (cells[row] != null) {
+                integers[row] = toBigDecimal(cells[row]).longValueExact();
+            }
+        }
+        return new LongColumn(field, nulls, integers);
+    }
+
+    private static Column toDecimalColumn(Field field, Object[] cells, int size, BitSet nulls) {
+        double[] decimals = new double[size];
+        for (int row = 0; row < size; row++) {
+            if (cells[row] != null) {
+                BigDecimal decimal = toBigDecimal(cells[row]);
+                if (decimal.precision() > MAX_EXACT_DOUBLE_DIGITS) {
+                    return null;
+                }
+                decimals[row] = decimal.doubleValue();
+            }
+        }
+        return new DoubleColumn(field, nulls, decimals);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value.toString());
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.batch;
+
+/** How the values of a column are held */
+public enum ColumnType {
+    /** In a long[]: integers, datetimes as milliseconds since the epoch and times as milliseconds since midnight */
+    LONG,
+    /** In a double[]: decimals with few enough significant digits for a double to hold them exactly */
+    DOUBLE,
+    /** In a boolean[] */
+    BOOLEAN,
+    /** In a String[] */
+    STRING,
+    /** In an Object[], as generated, for values that no primitive can hold exactly */
+    OBJECT
+}
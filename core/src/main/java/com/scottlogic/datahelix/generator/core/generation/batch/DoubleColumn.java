@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.batch;
+
+import com.scottlogic.datahelix.generator.common.profile.Field;
+
+import java.util.BitSet;
+
+public class DoubleColumn extends Column {
+    private final double[] values;
+
+    DoubleColumn(Field field, BitSet nulls, double[] values) {
+        super(field, nulls);
+        this.values = values;
+    }
+
+    @Override
+    public ColumnType getType() {
+        return ColumnType.DOUBLE;
+    }
+
+    public double get(int row) {
+        return values[row];
+    }
+
+    /** The value of each row of the batch, in order */
+    public double[] getValues() {
+        return values;
+    }
+}
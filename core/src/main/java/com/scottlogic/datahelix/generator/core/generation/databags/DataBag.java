@@ -18,20 +18,41 @@ package com.scottlogic.datahelix.generator.core.generation.databags;
 
 import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
 import com.scottlogic.datahelix.generator.common.profile.Field;
-import com.scottlogic.datahelix.generator.common.profile.FieldType;
-import com.scottlogic.datahelix.generator.common.util.FlatMappingSpliterator;
 
-import java.math.BigDecimal;
 import java.util.*;
 
 
+/**
+ * The values generated for some of the fields of a row.
+ * <p>
+ * Values are held in arrays ordered by {@link Field#getOrdinal()}, so a bag costs two small arrays rather than a map,
+ * lookups are a binary search and merging bags interleaves their arrays.
+ */
 public class DataBag implements GeneratedObject {
-    public static final DataBag empty = new DataBag(new HashMap<>());
+    public static final DataBag empty = new DataBag(new Field[0], new DataBagValue[0]);
 
-    private final Map<Field, DataBagValue> fieldToValue;
+    private final Field[] fields;
+    private final DataBagValue[] values;
 
     public DataBag(Map<Field, DataBagValue> fieldToValue) {
-        this.fieldToValue = fieldToValue;
+        List<Map.Entry<Field, DataBagValue>> entries = new ArrayList<>(fieldToValue.entrySet());
+        entries.sort(Comparator.comparingInt(entry -> entry.getKey().getOrdinal()));
+
+        fields = new Field[entries.size()];
+        values = new DataBagValue[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            fields[i] = entries.get(i).getKey();
+            values[i] = entries.get(i).getValue();
+        }
+    }
+
+    private DataBag(Field[] fields, DataBagValue[] values) {
+        this.fields = fields;
+        this.values = values;
+    }
+
+    public static DataBag of(Field field, DataBagValue value) {
+        return new DataBag(new Field[]{ field }, new DataBagValue[]{ value });
     }
 
     @Override
@@ -41,39 +62,52 @@ public class DataBag implements GeneratedObject {
 
     @Override
     public Object getFormattedValue(Field field) {
-        Object value = getValue(field);
-        String formatting = field.getFormatting();
+        return field.getFormatter().format(getValue(field));
+    }
 
-        if (formatting == null || value == null) {
-            return value;
+    public DataBagValue getDataBagValue(Field field) {
+        int index = indexOf(field.getOrdinal());
+        if (index < 0) {
+            throw new IllegalStateException("DataBag has no value stored for " + field);
         }
 
-        try
-        {
-            if (field.getType() == FieldType.NUMERIC && (formatting.contains("d") || formatting.contains("x") || formatting.contains("o")))
-            {
-                long l = ((BigDecimal) value).longValueExact();
-                return String.format(formatting, l);
+        return values[index];
+    }
+
+    /**
+     * Copies the values of the given fields, which must be in ordinal order, into the destination, in one pass over the
+     * bag rather than a search per field
+     */
+    public void copyValues(Field[] fieldsInOrdinalOrder, Object[] destination) {
+        int index = 0;
+        for (int i = 0; i < fieldsInOrdinalOrder.length; i++) {
+            int ordinal = fieldsInOrdinalOrder[i].getOrdinal();
+            while (index < fields.length && fields[index].getOrdinal() < ordinal) {
+                index++;
             }
-            if (field.getType() == FieldType.NUMERIC && (formatting.contains("a")))
-            {
-                double d = ((BigDecimal) value).doubleValue();
-                return String.format(formatting, d);
+            if (index == fields.length || fields[index].getOrdinal() != ordinal) {
+                throw new IllegalStateException("DataBag has no value stored for " + fieldsInOrdinalOrder[i]);
             }
-            return String.format(formatting, value);
-        }
-        catch (IllegalFormatException e)
-        {
-            return value;
+
+            destination[i] = values[index].getValue();
         }
     }
 
-    public DataBagValue getDataBagValue(Field field) {
-        if (!fieldToValue.containsKey(field)) {
-            throw new IllegalStateException("DataBag has no value stored for " + field);
+    private int indexOf(int ordinal) {
+        int low = 0;
+        int high = fields.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleOrdinal = fields[middle].getOrdinal();
+            if (middleOrdinal < ordinal) {
+                low = middle + 1;
+            } else if (middleOrdinal > ordinal) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
         }
-
-        return fieldToValue.get(field);
+        return -1;
     }
 
     @Override
@@ -81,39 +115,108 @@ public class DataBag implements GeneratedObject {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         DataBag generatedObject = (DataBag) o;
-        return Objects.equals(fieldToValue, generatedObject.fieldToValue);
+        return Arrays.equals(fields, generatedObject.fields) && Arrays.equals(values, generatedObject.values);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(fieldToValue);
+        int hash = 1;
+        for (int i = 0; i < fields.length; i++) {
+            hash = 31 * hash + (fields[i].getOrdinal() ^ Objects.hashCode(values[i]));
+        }
+        return hash;
     }
 
     public static DataBag merge(DataBag... bags) {
-        Map<Field, DataBagValue> newFieldToValue = new HashMap<>();
+        if (bags.length == 2) {
+            return merge(bags[0], bags[1]);
+        }
 
-        FlatMappingSpliterator.flatMap(Arrays.stream(bags)
-            .map(r -> r.fieldToValue.entrySet().stream()),
-            entrySetStream -> entrySetStream)
-            .forEach(entry -> {
-                if (newFieldToValue.containsKey(entry.getKey()))
-                    throw new IllegalArgumentException("Databags can't be merged because they overlap on field " + entry.getKey().getName());
+        int size = 0;
+        for (DataBag bag : bags) {
+            size += bag.fields.length;
+        }
 
-                newFieldToValue.put(entry.getKey(), entry.getValue());
-            });
+        // sort the entries of every bag together by ordinal, keeping track of where each one came from
+        long[] ordinalsAndPositions = new long[size];
+        Field[] allFields = new Field[size];
+        DataBagValue[] allValues = new DataBagValue[size];
+        int position = 0;
+        for (DataBag bag : bags) {
+            for (int i = 0; i < bag.fields.length; i++, position++) {
+                ordinalsAndPositions[position] = ((long) bag.fields[i].getOrdinal() << 32) | position;
+                allFields[position] = bag.fields[i];
+                allValues[position] = bag.values[i];
+            }
+        }
+        Arrays.sort(ordinalsAndPositions);
+
+        Field[] fields = new Field[size];
+        DataBagValue[] values = new DataBagValue[size];
+        for (int i = 0; i < size; i++) {
+            int from = (int) ordinalsAndPositions[i];
+            fields[i] = allFields[from];
+            values[i] = allValues[from];
+            if (i > 0 && fields[i - 1].getOrdinal() == fields[i].getOrdinal()) {
+                throw overlapping(fields[i]);
+            }
+        }
 
-        return new DataBag(newFieldToValue);
+        return new DataBag(fields, values);
+    }
+
+    private static DataBag merge(DataBag left, DataBag right) {
+        // bags are never modified, so can be shared
+        if (left.fields.length == 0) {
+            return right;
+        }
+        if (right.fields.length == 0) {
+            return left;
+        }
+
+        Field[] fields = new Field[left.fields.length + right.fields.length];
+        DataBagValue[] values = new DataBagValue[fields.length];
+
+        int l = 0;
+        int r = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (r == right.fields.length
+                || (l < left.fields.length && left.fields[l].getOrdinal() < right.fields[r].getOrdinal())) {
+                fields[i] = left.fields[l];
+                values[i] = left.values[l++];
+            } else if (l == left.fields.length || right.fields[r].getOrdinal() < left.fields[l].getOrdinal()) {
+                fields[i] = right.fields[r];
+                values[i] = right.values[r++];
+            } else {
+                throw overlapping(left.fields[l]);
+            }
+        }
+
+        return new DataBag(fields, values);
+    }
+
+    private static IllegalArgumentException overlapping(Field field) {
+        return new IllegalArgumentException("Databags can't be merged because they overlap on field " + field.getName());
     }
 
     @Override
     public String toString() {
+        StringJoiner fieldToValue = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < fields.length; i++) {
+            fieldToValue.add(fields[i] + "=" + values[i]);
+        }
+
         return "DataBag{" +
             "fieldToValue=" + fieldToValue +
             '}';
     }
 
     public boolean isUnique(){
-        return fieldToValue.keySet().stream()
-            .anyMatch(Field::isUnique);
+        for (Field field : fields) {
+            if (field.isUnique()) {
+                return true;
+            }
+        }
+        return false;
     }
 }
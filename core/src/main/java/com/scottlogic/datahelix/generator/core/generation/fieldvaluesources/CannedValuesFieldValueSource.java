@@ -18,8 +18,11 @@ package com.scottlogic.datahelix.generator.core.generation.fieldvaluesources;
 
 import com.scottlogic.datahelix.generator.common.whitelist.DistributedList;
 import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
+import com.scottlogic.datahelix.generator.common.whitelist.WeightedElement;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 public class CannedValuesFieldValueSource implements FieldValueSource {
@@ -39,6 +42,14 @@ public class CannedValuesFieldValueSource implements FieldValueSource {
         return Stream.generate(() -> pickFromDistribution(randomNumberGenerator));
     }
 
+    @Override
+    public Stream<Object> generateUniqueRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        List<WeightedElement<Object>> values = allValues.distributedList();
+        IndexPermutation permutation = new IndexPermutation(values.size(), randomNumberGenerator);
+        return LongStream.range(0, permutation.size())
+            .mapToObj(index -> values.get((int) permutation.get(index)).element());
+    }
+
     private Object pickFromDistribution(RandomNumberGenerator random) {
         return allValues.pickRandomly(random);
     }
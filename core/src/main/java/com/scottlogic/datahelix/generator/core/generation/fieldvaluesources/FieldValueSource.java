@@ -24,5 +24,13 @@ public interface FieldValueSource<T> {
     Stream<T> generateAllValues();
 
     Stream<T> generateRandomValues(RandomNumberGenerator randomNumberGenerator);
+
+    /**
+     * Each of the values of {@link #generateAllValues()} once, in a random order. Sources that can't shuffle their
+     * values without holding them all give them in their usual order.
+     */
+    default Stream<T> generateUniqueRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        return generateAllValues();
+    }
 }
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.fieldvaluesources;
+
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
+
+/**
+ * A random ordering of the indexes [0, size), which maps each index to another without storing any of them.
+ *
+ * Indexes are shuffled by a balanced Feistel network keyed from the random number generator, over the smallest
+ * even number of bits that holds every index. That shuffles a range up to four times too large, so results outside
+ * the range are shuffled again (cycle walking) until they land inside it, which takes fewer than four rounds on average.
+ */
+public class IndexPermutation {
+    private static final int ROUNDS = 4;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys = new long[ROUNDS];
+
+    public IndexPermutation(long size, RandomNumberGenerator randomNumberGenerator) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative, but was " + size);
+        }
+
+        this.size = size;
+        int bits = Math.max(2, Long.SIZE - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        for (int i = 0; i < ROUNDS; i++) {
+            keys[i] = ((long) randomNumberGenerator.nextInt() << 32) | (randomNumberGenerator.nextInt() & 0xFFFFFFFFL);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the index that the given index is shuffled to; every index in the range is returned for exactly one.
+     */
+    public long get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " is outside [0, " + size + ")");
+        }
+
+        long shuffled = index;
+        do {
+            shuffled = shuffle(shuffled);
+        } while (Long.compareUnsigned(shuffled, size) >= 0);
+        return shuffled;
+    }
+
+    private long shuffle(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long key : keys) {
+            long next = left ^ (mix(right ^ key) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    // the finaliser of SplitMix64, so that every bit of the input affects every bit of the output
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -19,32 +19,136 @@ package com.scottlogic.datahelix.generator.core.generation.fieldvaluesources;
 import com.scottlogic.datahelix.generator.core.restrictions.linear.LinearRestrictions;
 import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static com.scottlogic.datahelix.generator.common.SetUtils.stream;
+import static com.scottlogic.datahelix.generator.common.util.FlatMappingSpliterator.flatMap;
 
 public class LinearFieldValueSource<T extends Comparable<T>> implements FieldValueSource {
     private final LinearRestrictions<T> restrictions;
     private final Set<T> blacklist;
+    private final Object[] sortedBlacklist;
+    private final OptionalLong count;
 
     public LinearFieldValueSource(LinearRestrictions<T> restrictions, Set<T> blacklist) {
         this.restrictions = restrictions;
         this.blacklist = blacklist.stream()
             .map(i -> restrictions.getGranularity().trimToGranularity(i))
             .collect(Collectors.toSet());
+        // sorted by compareTo, so that values that compare equal (like 2 and 2.0) are found with a binary search
+        this.sortedBlacklist = this.blacklist.stream().sorted().toArray();
+        this.count = restrictions.count();
+    }
+
+    /**
+     * The number of values from min to max, including any that are blacklisted, or empty if they can't be counted
+     * without stepping through them.
+     */
+    public OptionalLong count() {
+        return count;
+    }
+
+    /**
+     * The value at the given index of the values from min to max, which may be blacklisted.
+     * Only supported when the values can be counted.
+     */
+    public T valueAt(long index) {
+        return restrictions.valueAt(index);
+    }
+
+    /**
+     * The index of the given value among the values from min to max, or empty if it isn't one of them, or they can't
+     * be counted.
+     */
+    public OptionalLong indexOf(T value) {
+        return restrictions.indexOf(value);
+    }
+
+    /**
+     * The values from one index up to (but not including) another, without the blacklisted values, so that a range of
+     * values can be skipped, or split between consumers, without stepping through the values before it.
+     * Only supported when the values can be counted.
+     */
+    public Stream<T> generateValuesBetween(long fromIndex, long toIndex) {
+        return LongStream.range(fromIndex, toIndex)
+            .mapToObj(restrictions::valueAt)
+            .filter(this::notInBlacklist);
     }
 
     @Override
     public Stream<T> generateAllValues() {
-        return stream(new LinearIterator<>(restrictions))
-            .filter(this::notInBlacklist);
+        long[] blacklistedIndexes = count.isPresent()
+            ? getBlacklistedIndexes()
+            : new long[0];
+        if (blacklistedIndexes.length == 0) {
+            return stream(new LinearIterator<>(restrictions))
+                .filter(this::notInBlacklist);
+        }
+
+        return flatMap(
+            getRunsBetween(blacklistedIndexes).stream(),
+            this::generateRun);
+    }
+
+    private long[] getBlacklistedIndexes() {
+        return blacklist.stream()
+            .map(restrictions::indexOf)
+            .filter(OptionalLong::isPresent)
+            .mapToLong(OptionalLong::getAsLong)
+            .sorted()
+            .distinct()
+            .toArray();
+    }
+
+    /**
+     * The runs of indexes between the blacklisted ones, as the first index of each run and the index after its last,
+     * or -1 for a run to the end of the values.
+     */
+    private List<long[]> getRunsBetween(long[] blacklistedIndexes) {
+        List<long[]> runs = new ArrayList<>();
+        long start = 0;
+        for (long blacklistedIndex : blacklistedIndexes) {
+            if (blacklistedIndex > start) {
+                runs.add(new long[]{ start, blacklistedIndex });
+            }
+            start = blacklistedIndex + 1;
+        }
+        if (start < count.getAsLong()) {
+            runs.add(new long[]{ start, -1 });
+        }
+        return runs;
+    }
+
+    // the last run steps through to the end, as generating every value always has
+    private Stream<T> generateRun(long[] run) {
+        if (run[1] < 0) {
+            LinearRestrictions<T> rest = new LinearRestrictions<>(
+                restrictions.valueAt(run[0]),
+                restrictions.getMax(),
+                restrictions.getGranularity());
+            return stream(new LinearIterator<>(rest));
+        }
+
+        return LongStream.range(run[0], run[1])
+            .mapToObj(restrictions::valueAt);
     }
 
     @Override
     public Stream<T> generateRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        if (count.isPresent() && count.getAsLong() > 0) {
+            long size = count.getAsLong();
+            return Stream.generate(() -> restrictions.valueAt(randomNumberGenerator.nextLong(0, size)))
+                .filter(this::notInBlacklist);
+        }
+
         return Stream.generate(() -> restrictions.getGranularity()
                 .getRandom(
                     restrictions.getMin(),
@@ -53,9 +157,21 @@ public class LinearFieldValueSource<T extends Comparable<T>> implements FieldVal
             .filter(this::notInBlacklist);
     }
 
-    // we call this instead of .contains because .contains doesn't treat 2 and 2.0 as equal
+    @Override
+    public Stream<T> generateUniqueRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        if (!count.isPresent()) {
+            return generateAllValues();
+        }
+
+        IndexPermutation permutation = new IndexPermutation(count.getAsLong(), randomNumberGenerator);
+        return LongStream.range(0, permutation.size())
+            .mapToObj(index -> restrictions.valueAt(permutation.get(index)))
+            .filter(this::notInBlacklist);
+    }
+
+    // we search by compareTo instead of calling .contains because .contains doesn't treat 2 and 2.0 as equal
     private boolean notInBlacklist(T t) {
-        return blacklist.stream().noneMatch(x->x.compareTo(t)==0);
+        return sortedBlacklist.length == 0 || Arrays.binarySearch(sortedBlacklist, t) < 0;
     }
 
     @Override
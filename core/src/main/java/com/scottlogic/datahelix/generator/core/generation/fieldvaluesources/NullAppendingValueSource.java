@@ -42,6 +42,13 @@ public class NullAppendingValueSource<T> implements FieldValueSource<T> {
         return Stream.generate(() -> getNextRandomValue(randomNumberGenerator, randomValues));
     }
 
+    @Override
+    public Stream<T> generateUniqueRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        return Stream.concat(
+            underlyingSource.generateUniqueRandomValues(randomNumberGenerator),
+            nullOnly.stream());
+    }
+
     private T getNextRandomValue(RandomNumberGenerator randomNumberGenerator, Iterator<T> randomValues) {
         if (shouldReturnNull(randomNumberGenerator)){
             return null;
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.fieldvaluesources;
+
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
+import com.scottlogic.datahelix.generator.common.profile.Granularity;
+import com.scottlogic.datahelix.generator.common.profile.NumericGranularity;
+import com.scottlogic.datahelix.generator.core.restrictions.linear.LinearRestrictions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * The values of a numeric range whose values all fit in a long once scaled to the range's scale, such as most
+ * integer and money fields. Values are stepped through, picked and checked against the blacklist as scaled longs, and
+ * only made into a BigDecimal as they leave the source.
+ *
+ * Gives the same values as {@link LinearFieldValueSource} over the same range, with the same scales.
+ */
+public class ScaledLongFieldValueSource implements FieldValueSource<BigDecimal> {
+    private static final int MAX_SCALING_DIGITS = 18;
+
+    private final LinearRestrictions<BigDecimal> restrictions;
+    private final Set<BigDecimal> blacklist;
+    private final int scale;
+    private final long unscaledMin;
+    private final long unscaledStep;
+    private final long count;
+    private final long[] sortedUnscaledBlacklist;
+
+    private ScaledLongFieldValueSource(LinearRestrictions<BigDecimal> restrictions,
+                                       Set<BigDecimal> blacklist,
+                                       int scale,
+                                       long unscaledMin,
+                                       long unscaledStep,
+                                       long count,
+                                       long[] sortedUnscaledBlacklist) {
+        this.restrictions = restrictions;
+        this.blacklist = blacklist;
+        this.scale = scale;
+        this.unscaledMin = unscaledMin;
+        this.unscaledStep = unscaledStep;
+        this.count = count;
+        this.sortedUnscaledBlacklist = sortedUnscaledBlacklist;
+    }
+
+    /**
+     * Returns a source for the given range, or empty if its values don't all fit in a long at the range's scale.
+     */
+    public static Optional<ScaledLongFieldValueSource> create(LinearRestrictions<BigDecimal> restrictions, Set<BigDecimal> blacklist) {
+        Granularity<BigDecimal> granularity = restrictions.getGranularity();
+        OptionalLong count = restrictions.count();
+        if (!(granularity instanceof NumericGranularity) || !count.isPresent() || count.getAsLong() == 0) {
+            return Optional.empty();
+        }
+
+        // the scale that stepping from min gives every value after it
+        int decimalPlaces = ((NumericGranularity) granularity).getDecimalPlaces();
+        int scale = Math.max(restrictions.getMin().scale(), decimalPlaces);
+        if (scale - decimalPlaces > MAX_SCALING_DIGITS) {
+            return Optional.empty();
+        }
+
+        OptionalLong unscaledMin = toUnscaledLong(restrictions.getMin(), scale);
+        if (!unscaledMin.isPresent()) {
+            return Optional.empty();
+        }
+
+        long unscaledStep = LongStream.range(0, scale - decimalPlaces).reduce(1, (step, digit) -> step * 10);
+        try {
+            Math.addExact(unscaledMin.getAsLong(), Math.multiplyExact(count.getAsLong() - 1, unscaledStep));
+        } catch (ArithmeticException e) {
+            return Optional.empty();
+        }
+
+        // values are compared with the blacklist as the linear source does, once trimmed to the granularity
+        long[] sortedUnscaledBlacklist = blacklist.stream()
+            .map(granularity::trimToGranularity)
+            .map(value -> toUnscaledLong(value, scale))
+            .filter(OptionalLong::isPresent)
+            .mapToLong(OptionalLong::getAsLong)
+            .sorted()
+            .toArray();
+
+        return Optional.of(new ScaledLongFieldValueSource(
+            restrictions,
+            blacklist,
+            scale,
+            unscaledMin.getAsLong(),
+            unscaledStep,
+            count.getAsLong(),
+            sortedUnscaledBlacklist));
+    }
+
+    private static OptionalLong toUnscaledLong(BigDecimal value, int scale) {
+        if (value.scale() > scale) {
+            return OptionalLong.empty();
+        }
+
+        BigInteger unscaled = value.setScale(scale).unscaledValue();
+        return unscaled.bitLength() < Long.SIZE
+            ? OptionalLong.of(unscaled.longValue())
+            : OptionalLong.empty();
+    }
+
+    @Override
+    public Stream<BigDecimal> generateAllValues() {
+        return LongStream.range(0, count)
+            .map(this::unscaledAt)
+            .filter(this::notInBlacklist)
+            .mapToObj(this::toBigDecimal);
+    }
+
+    @Override
+    public Stream<BigDecimal> generateRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        return LongStream.generate(() -> unscaledAt(randomNumberGenerator.nextLong(0, count)))
+            .filter(this::notInBlacklist)
+            .mapToObj(this::toBigDecimal);
+    }
+
+    @Override
+    public Stream<BigDecimal> generateUniqueRandomValues(RandomNumberGenerator randomNumberGenerator) {
+        IndexPermutation permutation = new IndexPermutation(count, randomNumberGenerator);
+        return LongStream.range(0, count)
+            .map(index -> unscaledAt(permutation.get(index)))
+            .filter(this::notInBlacklist)
+            .mapToObj(this::toBigDecimal);
+    }
+
+    private long unscaledAt(long index) {
+        return unscaledMin + index * unscaledStep;
+    }
+
+    private boolean notInBlacklist(long unscaled) {
+        return sortedUnscaledBlacklist.length == 0 || Arrays.binarySearch(sortedUnscaledBlacklist, unscaled) < 0;
+    }
+
+    // min keeps its own scale, as it does when it is the first value stepped through
+    private BigDecimal toBigDecimal(long unscaled) {
+        return unscaled == unscaledMin
+            ? restrictions.getMin()
+            : BigDecimal.valueOf(unscaled, scale);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        ScaledLongFieldValueSource otherSource = (ScaledLongFieldValueSource) obj;
+        return restrictions.equals(otherSource.restrictions) &&
+            blacklist.equals(otherSource.blacklist);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(restrictions, blacklist);
+    }
+}
@@ -38,12 +38,13 @@ import static com.scottlogic.datahelix.generator.common.util.FlatMappingSplitera
 public class FieldSpecGroupValueGenerator {
     private final CombinationStrategyType combinationStrategy;
     private final FieldSpecValueGenerator underlyingGenerator;
-    private final FieldSpecMerger fieldSpecMerger = new FieldSpecMerger();
+    private final FieldSpecMerger fieldSpecMerger;
 
     @Inject
-    public FieldSpecGroupValueGenerator(FieldSpecValueGenerator underlyingGenerator, CombinationStrategyType combinationStrategy) {
+    public FieldSpecGroupValueGenerator(FieldSpecValueGenerator underlyingGenerator, CombinationStrategyType combinationStrategy, FieldSpecMerger fieldSpecMerger) {
         this.underlyingGenerator = underlyingGenerator;
         this.combinationStrategy = combinationStrategy;
+        this.fieldSpecMerger = fieldSpecMerger;
     }
 
     public Stream<DataBag> generate(FieldSpecGroup group) {
@@ -51,13 +52,13 @@ public class FieldSpecGroupValueGenerator {
 
         if (group.fieldSpecs().size() == 1) {
             return underlyingGenerator.generate(first, group.fieldSpecs().get(first))
-                .map(val -> toDataBag(first, val));
+                .map(val -> DataBag.of(first, val));
         }
 
         FieldSpec firstSpec = updateFirstSpecFromRelations(first, group);
 
         Stream<DataBag> firstDataBagValues = underlyingGenerator.generate(first, firstSpec)
-            .map(value -> toDataBag(first, value));
+            .map(value -> DataBag.of(first, value));
 
         return flatMap(
             firstDataBagValues,
@@ -191,12 +192,6 @@ public class FieldSpecGroupValueGenerator {
         }
     }
 
-    private DataBag toDataBag(Field field, DataBagValue value) {
-        Map<Field, DataBagValue> map = new HashMap<>();
-        map.put(field, value);
-        return new DataBag(map);
-    }
-
     private FieldSpecGroup removeSpecFromGroup(Field first, FieldSpecGroup group) {
         HashMap<Field, FieldSpec> newFieldSpecs = new HashMap<>(group.fieldSpecs());
         newFieldSpecs.remove(first);
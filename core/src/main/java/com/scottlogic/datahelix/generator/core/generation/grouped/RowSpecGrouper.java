@@ -28,6 +28,10 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 public class RowSpecGrouper {
+    /**
+     * Groups are returned in a stable order, as values are generated for each group in turn and so the order
+     * determines which random numbers each group receives.
+     */
     public static Set<FieldSpecGroup> createGroups(RowSpec rowSpec) {
         List<FieldPair> pairs = rowSpec.getRelations().stream()
             .map(relation -> new FieldPair(relation.main(), relation.other()))
@@ -35,16 +39,20 @@ public class RowSpecGrouper {
 
         return findGroups(rowSpec.getFields().asList(), pairs)
             .stream().map(fs->createFieldSpecGroups(fs.fields(), rowSpec))
-            .collect(Collectors.toSet());
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     private static Set<FieldGroup> findGroups(List<Field> fields, List<FieldPair> pairs) {
         if (fields.isEmpty()) {
-            return new HashSet<>();
+            return new LinkedHashSet<>();
         }
 
         Map<Field, List<Field>> fieldMapping = fields.stream()
-            .collect(Collectors.toMap(field -> field, field -> new ArrayList<>()));
+            .collect(Collectors.toMap(
+                field -> field,
+                field -> new ArrayList<>(),
+                (first, second) -> first,
+                LinkedHashMap::new));
 
         for (FieldPair pair : pairs) {
             fieldMapping.get(pair.first()).add(pair.second());
@@ -58,10 +66,10 @@ public class RowSpecGrouper {
 
     private static Set<FieldGroup> findGroupsFromMap(Map<Field, List<Field>> map) {
         if (map.isEmpty()) {
-            return new HashSet<>();
+            return new LinkedHashSet<>();
         }
 
-        Map<Field, List<Field>> copiedMap = new HashMap<>(map);
+        Map<Field, List<Field>> copiedMap = new LinkedHashMap<>(map);
 
         Set<Field> fields = findGroup(SetUtils.firstIteratorElement(copiedMap.keySet()), copiedMap);
 
@@ -75,7 +83,7 @@ public class RowSpecGrouper {
     }
 
     private static Set<Field> findGroup(Field initial, Map<Field, List<Field>> map) {
-        Set<Field> searchedFields = new HashSet<>();
+        Set<Field> searchedFields = new LinkedHashSet<>();
         searchedFields.add(initial);
 
         Deque<Field> fieldsToSearch = new ArrayDeque<>();
@@ -93,7 +101,7 @@ public class RowSpecGrouper {
         }
 
         Deque<Field> toProcessCopy = new ArrayDeque<>(fieldsToSearch);
-        Set<Field> newFound = new HashSet<>(found);
+        Set<Field> newFound = new LinkedHashSet<>(found);
 
         Field next = toProcessCopy.pop();
         List<Field> links = map.get(next);
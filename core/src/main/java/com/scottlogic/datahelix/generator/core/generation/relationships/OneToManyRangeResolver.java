@@ -32,14 +32,16 @@ import com.scottlogic.datahelix.generator.core.walker.pruner.Merged;
 import com.scottlogic.datahelix.generator.core.walker.pruner.TreePruner;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class OneToManyRangeResolver {
     private final DecisionTreeFactory factory;
     private final TreePruner treePruner;
 
+    // the extents are the same for every parent row, so their tree is only analysed once per relationship
+    private final Map<List<Object>, DecisionTree> extentTrees = new ConcurrentHashMap<>();
+
     @Inject
     public OneToManyRangeResolver(
         DecisionTreeFactory factory,
@@ -52,11 +54,13 @@ public class OneToManyRangeResolver {
         OneToManyRange range = new OneToManyRange(0, null);
 
         ExtentAugmentedFields extentAugmentedFields = new ExtentAugmentedFields(profileFields);
-        DecisionTree tree = factory.analyse(new Profile(
-            extentAugmentedFields,
-            new ArrayList<>(constraints),
-            Collections.emptyList())
-        );
+        DecisionTree tree = extentTrees.computeIfAbsent(
+            Arrays.asList(profileFields, constraints),
+            key -> factory.analyse(new Profile(
+                extentAugmentedFields,
+                new ArrayList<>(constraints),
+                Collections.emptyList())
+            ));
 
         //apply each value of generatedObject to the tree
         ConstraintNode rootNode = applyGeneratedData(profileFields, tree.getRootNode(), generatedObject);
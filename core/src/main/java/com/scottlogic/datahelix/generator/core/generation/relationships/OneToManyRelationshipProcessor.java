@@ -25,10 +25,9 @@ import com.scottlogic.datahelix.generator.common.profile.Fields;
 import com.scottlogic.datahelix.generator.core.generation.DataGenerator;
 import com.scottlogic.datahelix.generator.core.profile.constraints.Constraint;
 import com.scottlogic.datahelix.generator.core.profile.relationships.Relationship;
-import com.scottlogic.datahelix.generator.core.utils.JavaUtilRandomNumberGenerator;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class OneToManyRelationshipProcessor implements RelationshipProcessor {
     private final RandomNumberGenerator randomNumberGenerator;
@@ -36,7 +35,7 @@ public class OneToManyRelationshipProcessor implements RelationshipProcessor {
 
     @Inject
     public OneToManyRelationshipProcessor(
-        JavaUtilRandomNumberGenerator randomNumberGenerator,
+        RandomNumberGenerator randomNumberGenerator,
         OneToManyRangeResolver rangeResolver) {
         this.randomNumberGenerator = randomNumberGenerator;
         this.rangeResolver = rangeResolver;
@@ -60,10 +59,11 @@ public class OneToManyRelationshipProcessor implements RelationshipProcessor {
             }
 
             @Override
-            public List<GeneratedObject> getData() {
+            public Stream<GeneratedObject> getData() {
+                // generated as the row is written, so that no more than one sub-object is held at once; rows with
+                // sub-objects are therefore always written on the generating thread (see Profile#hasOneToManyRelationships)
                 return dataGenerator.generateData(relationship.getProfile())
-                    .limit(numberOfObjects)
-                    .collect(Collectors.toList());
+                    .limit(numberOfObjects);
             }
 
             @Override
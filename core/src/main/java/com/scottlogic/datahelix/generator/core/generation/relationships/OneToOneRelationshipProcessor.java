@@ -23,9 +23,9 @@ import com.scottlogic.datahelix.generator.common.profile.Fields;
 import com.scottlogic.datahelix.generator.core.generation.DataGenerator;
 import com.scottlogic.datahelix.generator.core.profile.relationships.Relationship;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class OneToOneRelationshipProcessor implements RelationshipProcessor {
     @Override
@@ -42,8 +42,8 @@ public class OneToOneRelationshipProcessor implements RelationshipProcessor {
             }
 
             @Override
-            public List<GeneratedObject> getData() {
-                return Collections.singletonList(subObject.get());
+            public Stream<GeneratedObject> getData() {
+                return Stream.of(subObject.get());
             }
 
             @Override
@@ -19,42 +19,103 @@ package com.scottlogic.datahelix.generator.core.generation.string.factorys;
 import com.scottlogic.datahelix.generator.common.ValidationException;
 import com.scottlogic.datahelix.generator.core.generation.string.StringUtils;
 import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
+import dk.brics.automaton.Automaton;
 import dk.brics.automaton.State;
 import dk.brics.automaton.Transition;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
 
+/**
+ * Produces random strings by walking an automaton from its initial state.
+ *
+ * The automaton is compiled up front into flat arrays: the transitions of state s are at indexes
+ * transitionOffsets[s] to transitionOffsets[s + 1] - 1 of minChars, maxChars and destinations, in the order given by
+ * State.getSortedTransitions(false). A walk then makes the same random choices as walking the automaton itself, without
+ * sorting or allocating per character.
+ */
 public class RandomStringFactory {
-    public String createRandomString(State state, RandomNumberGenerator random) {
-        List<Integer> validIndices = new LinkedList<>();
+    private final int[] transitionOffsets;
+    private final char[] minChars;
+    private final char[] maxChars;
+    private final int[] destinations;
+    private final BitSet acceptStates;
 
-        StringBuilder builder = new StringBuilder();
+    // the factory is shared between threads, so each thread walks into its own buffers
+    private final ThreadLocal<WalkBuffer> buffers = ThreadLocal.withInitial(WalkBuffer::new);
 
-        if (state.isAccept()) {
-            validIndices.add(0);
-        }
+    public RandomStringFactory(Automaton automaton) {
+        Map<State, Integer> stateIndexes = new HashMap<>();
+        List<State> states = new ArrayList<>();
+        List<List<Transition>> transitionsByState = new ArrayList<>();
+        int transitionCount = 0;
 
-        for (int i = 1; !finishCreating(state); i++) {
-            List<Transition> transitions = state.getSortedTransitions(false);
-            Transition randomTransition = transitions.get(random.nextInt(transitions.size()));
-            builder.append(getRandomChar(random, randomTransition));
-            state = randomTransition.getDest();
-            if (state.isAccept()) {
-                validIndices.add(i);
+        indexState(automaton.getInitialState(), stateIndexes, states);
+        for (int i = 0; i < states.size(); i++) {
+            List<Transition> transitions = states.get(i).getSortedTransitions(false);
+            transitionsByState.add(transitions);
+            transitionCount += transitions.size();
+            for (Transition transition : transitions) {
+                indexState(transition.getDest(), stateIndexes, states);
             }
         }
 
-        if (validIndices.isEmpty()) {
-            throw new ValidationException("No possible states from the current regex");
+        transitionOffsets = new int[states.size() + 1];
+        minChars = new char[transitionCount];
+        maxChars = new char[transitionCount];
+        destinations = new int[transitionCount];
+        acceptStates = new BitSet(states.size());
+
+        int offset = 0;
+        for (int i = 0; i < states.size(); i++) {
+            transitionOffsets[i] = offset;
+            if (states.get(i).isAccept()) {
+                acceptStates.set(i);
+            }
+            for (Transition transition : transitionsByState.get(i)) {
+                minChars[offset] = transition.getMin();
+                maxChars[offset] = transition.getMax();
+                destinations[offset] = stateIndexes.get(transition.getDest());
+                offset++;
+            }
         }
+        transitionOffsets[states.size()] = offset;
+    }
 
-        int randomIndex = random.nextInt(validIndices.size());
-        return builder.toString().substring(0, validIndices.get(randomIndex));
+    private static void indexState(State state, Map<State, Integer> stateIndexes, List<State> states) {
+        if (!stateIndexes.containsKey(state)) {
+            stateIndexes.put(state, states.size());
+            states.add(state);
+        }
     }
 
-    private boolean finishCreating(State state) {
-        return state.getTransitions().isEmpty();
+    public String createRandomString(RandomNumberGenerator random) {
+        WalkBuffer buffer = buffers.get();
+        int validIndexCount = 0;
+        int length = 0;
+        int state = 0;
+
+        if (acceptStates.get(state)) {
+            buffer.validIndexes[validIndexCount++] = 0;
+        }
+
+        while (transitionOffsets[state] < transitionOffsets[state + 1]) {
+            int firstTransition = transitionOffsets[state];
+            int transition = firstTransition + random.nextInt(transitionOffsets[state + 1] - firstTransition);
+
+            buffer.ensureCapacity(length + 1);
+            buffer.chars[length++] = getRandomChar(random, minChars[transition], maxChars[transition]);
+            state = destinations[transition];
+            if (acceptStates.get(state)) {
+                buffer.validIndexes[validIndexCount++] = length;
+            }
+        }
+
+        if (validIndexCount == 0) {
+            throw new ValidationException("No possible states from the current regex");
+        }
+
+        int randomIndex = random.nextInt(validIndexCount);
+        return new String(buffer.chars, 0, buffer.validIndexes[randomIndex]);
     }
 
     /**
@@ -75,12 +136,25 @@ public class RandomStringFactory {
      * is updated.
      * </p>
      */
-    private char getRandomChar(RandomNumberGenerator random, Transition randomTransition) {
+    private static char getRandomChar(RandomNumberGenerator random, char min, char max) {
         char randomChar;
         do {
-            int diff = randomTransition.getMax() - randomTransition.getMin() + 1;
-            randomChar = (char) (random.nextInt(diff) + randomTransition.getMin());
+            int diff = max - min + 1;
+            randomChar = (char) (random.nextInt(diff) + min);
         } while (!StringUtils.isCharValidUtf8(randomChar));
         return randomChar;
     }
+
+    private static class WalkBuffer {
+        private char[] chars = new char[64];
+        // one more than chars, as the empty string may also be accepted
+        private int[] validIndexes = new int[65];
+
+        void ensureCapacity(int length) {
+            if (length > chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+                validIndexes = Arrays.copyOf(validIndexes, chars.length + 1);
+            }
+        }
+    }
 }
@@ -21,19 +21,20 @@ import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
 import com.scottlogic.datahelix.generator.common.util.OrderedRandom;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
 import java.util.stream.Stream;
 
 public class FakerGenerator implements StringGenerator {
 
     private final StringGenerator underlyingRegexGenerator;
     private final String fakerSpec;
-    private final Faker randomFaker;
     private final Faker orderedFaker;
+    private RandomNumberGenerator randomFakerSource;
+    private Faker randomFaker;
 
     public FakerGenerator(StringGenerator underlyingRegexGenerator, String fakerSpec) {
         this.underlyingRegexGenerator = underlyingRegexGenerator;
         this.fakerSpec = fakerSpec;
-        randomFaker = new Faker();
         orderedFaker = new Faker(new OrderedRandom());
     }
 
@@ -67,10 +68,23 @@ public class FakerGenerator implements StringGenerator {
 
     @Override
     public Stream<String> generateRandomValues(RandomNumberGenerator randomNumberGenerator) {
-        return Stream.generate(() -> getFakerValue(randomFaker))
+        Faker faker = getRandomFaker(randomNumberGenerator);
+        return Stream.generate(() -> getFakerValue(faker))
             .filter(underlyingRegexGenerator::validate);
     }
 
+    /**
+     * Faker is expensive to create, so one is kept per random number generator and seeded from it, which makes the
+     * values repeatable for a given seed.
+     */
+    private synchronized Faker getRandomFaker(RandomNumberGenerator randomNumberGenerator) {
+        if (randomFaker == null || randomFakerSource != randomNumberGenerator) {
+            randomFaker = new Faker(new Random(randomNumberGenerator.nextInt()));
+            randomFakerSource = randomNumberGenerator;
+        }
+        return randomFaker;
+    }
+
     private String getFakerValue(Faker faker) {
         try {
             return faker.expression("#{" + this.fakerSpec + "}");
@@ -23,6 +23,7 @@ import com.scottlogic.datahelix.generator.core.generation.string.AutomatonUtils;
 import com.scottlogic.datahelix.generator.core.generation.string.factorys.RandomStringFactory;
 import com.scottlogic.datahelix.generator.core.generation.string.iterators.FiniteStringAutomatonIterator;
 import com.scottlogic.datahelix.generator.core.restrictions.string.StringRestrictions;
+import com.scottlogic.datahelix.generator.core.utils.MemoCache;
 import dk.brics.automaton.Automaton;
 
 import java.util.*;
@@ -32,20 +33,17 @@ import java.util.stream.StreamSupport;
 
 public class RegexStringGenerator implements StringGenerator {
     /**
-     * Cache of all matching regex automatons, keyed on their regex
+     * Cache of regex automatons, keyed on their regex, whether it must match the full string and whether the
+     * automaton has been complemented
      */
-    private static final Map<String, Automaton> matchingRegexAutomatonCache = new HashMap<>();
-
-    /**
-     * Cache of all containing regex automatons, keyed on their regex
-     */
-    private static final Map<String, Automaton> containingRegexAutomatonCache = new HashMap<>();
+    private static final MemoCache<List<Object>, Automaton> automatonCache = new MemoCache<>("Regex automaton", 1_000);
 
     private static final RegexStringGenerator DEFAULT = (RegexStringGenerator) ((StringRestrictions) FieldSpecFactory.fromType(FieldType.STRING).getRestrictions()).createGenerator();
 
     private Automaton automaton;
 
-    private RandomStringFactory randomStringFactory = new RandomStringFactory();
+    // compiled on the first random generation, as many generators only ever match or enumerate
+    private volatile RandomStringFactory randomStringFactory;
     private final RegexPattern regexPattern;
 
     private RegexStringGenerator(Automaton automaton, RegexPattern regexPattern) {
@@ -54,13 +52,23 @@ public class RegexStringGenerator implements StringGenerator {
     }
 
     public RegexStringGenerator(String regexStr, boolean matchFullString) {
-        Map<String, Automaton> cache = matchFullString ? matchingRegexAutomatonCache : containingRegexAutomatonCache;
-        Automaton generatedAutomaton = cache.containsKey(regexStr)
-            ? cache.get(regexStr)
-            : AutomatonUtils.createAutomaton(regexStr, matchFullString, cache);
-
         this.regexPattern = new SingleRegexPattern(regexStr, matchFullString);
-        this.automaton = generatedAutomaton;
+        this.automaton = automatonCache.get(
+            Arrays.asList(regexStr, matchFullString, false),
+            () -> AutomatonUtils.createAutomaton(regexStr, matchFullString));
+    }
+
+    /**
+     * Create a generator of the strings that do not match the given regex, equivalent to calling complement() on a
+     * generator for the regex but sharing the complemented automaton with other callers
+     */
+    public static RegexStringGenerator complementOf(String regexStr, boolean matchFullString) {
+        RegexStringGenerator generator = new RegexStringGenerator(regexStr, matchFullString);
+        Automaton complemented = automatonCache.get(
+            Arrays.asList(regexStr, matchFullString, true),
+            () -> complement(generator.automaton));
+
+        return new RegexStringGenerator(complemented, generator.regexPattern.complement());
     }
 
     @Override
@@ -116,10 +124,14 @@ public class RegexStringGenerator implements StringGenerator {
     @Override
     public StringGenerator complement() {
         return new RegexStringGenerator(
-            this.automaton.clone().complement().intersection(DEFAULT.automaton),
+            complement(this.automaton),
             this.regexPattern.complement());
     }
 
+    private static Automaton complement(Automaton automaton) {
+        return automaton.clone().complement().intersection(DEFAULT.automaton);
+    }
+
     @Override
     public Stream<String> generateAllValues() {
         Iterator<String> iterator = new FiniteStringAutomatonIterator(automaton);
@@ -128,10 +140,16 @@ public class RegexStringGenerator implements StringGenerator {
 
     @Override
     public Stream<String> generateRandomValues(RandomNumberGenerator randomNumberGenerator) {
-        return Stream.generate(
-            () -> randomStringFactory.createRandomString(
-                automaton.getInitialState(),
-                randomNumberGenerator));
+        RandomStringFactory factory = getRandomStringFactory();
+        return Stream.generate(() -> factory.createRandomString(randomNumberGenerator));
+    }
+
+    private RandomStringFactory getRandomStringFactory() {
+        RandomStringFactory factory = randomStringFactory;
+        if (factory == null) {
+            randomStringFactory = factory = new RandomStringFactory(automaton);
+        }
+        return factory;
     }
 
     public boolean validate(String input) {
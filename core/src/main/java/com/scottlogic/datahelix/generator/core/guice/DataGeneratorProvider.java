@@ -20,7 +20,9 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.name.Named;
 import com.scottlogic.datahelix.generator.core.config.detail.MonitorType;
+import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecMerger;
 import com.scottlogic.datahelix.generator.core.generation.*;
+import com.scottlogic.datahelix.generator.core.reducer.ConstraintReducer;
 
 import javax.annotation.Nullable;
 
@@ -29,17 +31,23 @@ public class DataGeneratorProvider implements Provider<DataGenerator> {
     private final Long maxRows;
     private final MonitorType monitorType;
     private final DataGeneratorMonitor monitor;
+    private final FieldSpecMerger fieldSpecMerger;
+    private final ConstraintReducer constraintReducer;
 
     @Inject
     public DataGeneratorProvider(
         DecisionTreeDataGenerator coreGenerator,
         @Nullable @Named("config:maxRows") Long maxRows,
         MonitorType monitorType,
-        DataGeneratorMonitor monitor) {
+        DataGeneratorMonitor monitor,
+        FieldSpecMerger fieldSpecMerger,
+        ConstraintReducer constraintReducer) {
         this.coreGenerator = coreGenerator;
         this.maxRows = maxRows;
         this.monitorType = monitorType;
         this.monitor = monitor;
+        this.fieldSpecMerger = fieldSpecMerger;
+        this.constraintReducer = constraintReducer;
     }
 
     @Override
@@ -52,6 +60,9 @@ public class DataGeneratorProvider implements Provider<DataGenerator> {
             return limitingGenerator;
         }
 
+        monitor.addCacheToReportAtEndOfGeneration(constraintReducer.getCache());
+        monitor.addCacheToReportAtEndOfGeneration(fieldSpecMerger.getCache());
+
         return new MonitoringDataGenerator(
             limitingGenerator,
             monitor);
@@ -21,18 +21,21 @@ import com.google.inject.Provider;
 import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
 import com.scottlogic.datahelix.generator.core.generation.GenerationConfigSource;
 import com.scottlogic.datahelix.generator.core.walker.DecisionTreeWalker;
+import com.scottlogic.datahelix.generator.core.walker.parallel.ParallelDecisionTreeWalker;
 import com.scottlogic.datahelix.generator.core.walker.rowspec.RandomRowSpecDecisionTreeWalker;
 import com.scottlogic.datahelix.generator.core.walker.rowspec.RowSpecDecisionTreeWalker;
 
 public class DecisionTreeWalkerProvider implements Provider<DecisionTreeWalker> {
-    private final RowSpecDecisionTreeWalker rowSpecDecisionTreeWalker;
-    private final RandomRowSpecDecisionTreeWalker randomRowSpecDecisionTreeWalker;
+    private static final int PARTITION_BUFFER_SIZE = 1024;
+
+    private final Provider<RowSpecDecisionTreeWalker> rowSpecDecisionTreeWalker;
+    private final Provider<RandomRowSpecDecisionTreeWalker> randomRowSpecDecisionTreeWalker;
     private final GenerationConfigSource configSource;
 
     @Inject
     public DecisionTreeWalkerProvider(
-        RowSpecDecisionTreeWalker rowSpecDecisionTreeWalker,
-        RandomRowSpecDecisionTreeWalker randomRowSpecDecisionTreeWalker,
+        Provider<RowSpecDecisionTreeWalker> rowSpecDecisionTreeWalker,
+        Provider<RandomRowSpecDecisionTreeWalker> randomRowSpecDecisionTreeWalker,
         GenerationConfigSource configSource) {
         this.rowSpecDecisionTreeWalker = rowSpecDecisionTreeWalker;
         this.randomRowSpecDecisionTreeWalker = randomRowSpecDecisionTreeWalker;
@@ -41,9 +44,14 @@ public class DecisionTreeWalkerProvider implements Provider<DecisionTreeWalker>
 
     @Override
     public DecisionTreeWalker get() {
-        if (configSource.getGenerationType() == DataGenerationType.RANDOM)
-            return randomRowSpecDecisionTreeWalker;
+        Provider<? extends DecisionTreeWalker> walker = configSource.getGenerationType() == DataGenerationType.RANDOM
+            ? randomRowSpecDecisionTreeWalker
+            : rowSpecDecisionTreeWalker;
 
-        return rowSpecDecisionTreeWalker;
+        if (configSource.getPartitionThreads() > 1) {
+            // each partition gets its own walker, and so its own random number streams
+            return new ParallelDecisionTreeWalker(walker::get, configSource.getPartitionThreads(), PARTITION_BUFFER_SIZE);
+        }
+        return walker.get();
     }
 }
@@ -20,12 +20,14 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
 import com.google.inject.name.Names;
 import com.google.inject.util.Providers;
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
 import com.scottlogic.datahelix.generator.core.config.detail.CombinationStrategyType;
 import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
 import com.scottlogic.datahelix.generator.core.config.detail.MonitorType;
+import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecMerger;
 import com.scottlogic.datahelix.generator.core.generation.*;
 import com.scottlogic.datahelix.generator.core.generation.combinationstrategies.CombinationStrategy;
-import com.scottlogic.datahelix.generator.core.utils.JavaUtilRandomNumberGenerator;
+import com.scottlogic.datahelix.generator.core.reducer.ConstraintReducer;
 import com.scottlogic.datahelix.generator.core.walker.DecisionTreeWalker;
 import com.scottlogic.datahelix.generator.core.walker.decisionbased.OptionPicker;
 
@@ -70,13 +72,32 @@ public class GeneratorModule extends AbstractModule {
         bind(DataGeneratorMonitor.class).to(AbstractDataGeneratorMonitor.class);
         bind(DataGenerator.class).toProvider(DataGeneratorProvider.class);
 
-        bind(JavaUtilRandomNumberGenerator.class)
-            .toInstance(new JavaUtilRandomNumberGenerator(OffsetDateTime.now().getNano()));
+        // Share one of each so that their caches are shared across the whole run
+        bind(FieldSpecMerger.class).in(Singleton.class);
+        bind(ConstraintReducer.class).in(Singleton.class);
+
+        long seed = getSeed(generationConfigSource);
+        bind(long.class)
+            .annotatedWith(Names.named("config:seed"))
+            .toInstance(seed);
+        bind(RandomNumberGenerator.class)
+            .toProvider(new RandomNumberGeneratorProvider(seed));
+        bind(boolean.class)
+            .annotatedWith(Names.named("config:shuffleUniqueValues"))
+            .toInstance(generationConfigSource.getShuffleUniqueValues());
         bind(int.class)
             .annotatedWith(Names.named("config:internalRandomRowSpecStorage"))
             .toInstance(256);
     }
 
+    private static long getSeed(GenerationConfigSource generationConfigSource) {
+        Long requestedSeed = generationConfigSource.getSeed();
+
+        return requestedSeed == null
+            ? OffsetDateTime.now().getNano()
+            : requestedSeed;
+    }
+
     private static Long getMaxRows(GenerationConfigSource generationConfigSource) {
         Long requestedMaxRows = generationConfigSource.getMaxRows();
 
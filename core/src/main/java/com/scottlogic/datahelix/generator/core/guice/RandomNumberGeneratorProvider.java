@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.guice;
+
+import com.google.inject.Provider;
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
+import com.scottlogic.datahelix.generator.core.utils.SplittableRandomNumberGenerator;
+
+/**
+ * Gives each consumer its own stream of random numbers, split in turn from a stream seeded with the run's seed. As
+ * long as consumers are created in the same order, a given seed reproduces the same values in every consumer.
+ */
+public class RandomNumberGeneratorProvider implements Provider<RandomNumberGenerator> {
+    private final SplittableRandomNumberGenerator root;
+
+    public RandomNumberGeneratorProvider(long seed) {
+        this.root = new SplittableRandomNumberGenerator(seed);
+    }
+
+    @Override
+    public synchronized RandomNumberGenerator get() {
+        return root.split();
+    }
+}
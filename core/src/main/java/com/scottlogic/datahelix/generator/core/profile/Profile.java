@@ -65,4 +65,14 @@ public class Profile {
     public Collection<Relationship> getRelationships() {
         return relationships;
     }
+
+    /**
+     * Whether rows of this profile, or of any profile related to it, have one-to-many sub-objects. These are generated
+     * as the row is written, by the same generator, so such rows must be written on the thread that generates them.
+     */
+    public boolean hasOneToManyRelationships() {
+        return relationships != null && relationships.stream()
+            .anyMatch(relationship -> !relationship.getExtents().isEmpty()
+                || (relationship.getProfile() != null && relationship.getProfile().hasOneToManyRelationships()));
+    }
 }
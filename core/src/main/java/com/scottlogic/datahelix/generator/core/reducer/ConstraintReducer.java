@@ -23,6 +23,7 @@ import com.scottlogic.datahelix.generator.core.profile.constraints.atomic.Atomic
 import com.scottlogic.datahelix.generator.core.decisiontree.ConstraintNode;
 import com.scottlogic.datahelix.generator.core.fieldspecs.*;
 import com.scottlogic.datahelix.generator.core.fieldspecs.relations.FieldSpecRelation;
+import com.scottlogic.datahelix.generator.core.utils.MemoCache;
 
 import java.util.*;
 import java.util.function.Function;
@@ -32,6 +33,7 @@ import java.util.stream.StreamSupport;
 
 public class ConstraintReducer {
     private final FieldSpecMerger fieldSpecMerger;
+    private final MemoCache<ReductionKey, Optional<FieldSpec>> cache = new MemoCache<>("Constraint reduction", 10_000);
 
     @Inject
     public ConstraintReducer(
@@ -75,9 +77,20 @@ public class ConstraintReducer {
     }
 
     public Optional<FieldSpec> reduceConstraintsToFieldSpec(Field field, Iterable<AtomicConstraint> constraints) {
-        return constraints == null
-            ? Optional.of(FieldSpecFactory.fromType(field.getType()))
-            : getRootFieldSpec(field, constraints);
+        if (constraints == null) {
+            return Optional.of(FieldSpecFactory.fromType(field.getType()));
+        }
+
+        // keyed on the constraints in the order given, as that order decides the order of any merged whitelist
+        List<AtomicConstraint> orderedConstraints = new ArrayList<>();
+        constraints.forEach(orderedConstraints::add);
+        return cache.get(
+            new ReductionKey(field, orderedConstraints),
+            () -> getRootFieldSpec(field, orderedConstraints));
+    }
+
+    public MemoCache<?, ?> getCache() {
+        return cache;
     }
 
     private Optional<FieldSpec> getRootFieldSpec(Field field, Iterable<AtomicConstraint> rootConstraints) {
@@ -94,4 +107,31 @@ public class ConstraintReducer {
                     spec1 -> optSpec2.flatMap(
                         spec2 -> fieldSpecMerger.merge(spec1, spec2, false))));
     }
+
+    private static class ReductionKey {
+        private final Field field;
+        private final List<AtomicConstraint> constraints;
+        private final int hash;
+
+        ReductionKey(Field field, List<AtomicConstraint> constraints) {
+            this.field = field;
+            this.constraints = constraints;
+            this.hash = Objects.hash(field, constraints);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ReductionKey that = (ReductionKey) o;
+            return hash == that.hash &&
+                Objects.equals(field, that.field) &&
+                Objects.equals(constraints, that.constraints);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -17,12 +17,17 @@
 package com.scottlogic.datahelix.generator.core.restrictions.linear;
 
 import com.scottlogic.datahelix.generator.common.profile.Granularity;
+import com.scottlogic.datahelix.generator.common.profile.NumericGranularity;
 import com.scottlogic.datahelix.generator.core.generation.fieldvaluesources.FieldValueSource;
 import com.scottlogic.datahelix.generator.core.generation.fieldvaluesources.LinearFieldValueSource;
 import com.scottlogic.datahelix.generator.core.generation.fieldvaluesources.NullOnlySource;
+import com.scottlogic.datahelix.generator.core.generation.fieldvaluesources.ScaledLongFieldValueSource;
 import com.scottlogic.datahelix.generator.core.restrictions.TypedRestrictions;
 
+import java.math.BigDecimal;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 
 public class LinearRestrictions<T extends Comparable<T>> implements TypedRestrictions<T> {
@@ -55,10 +60,18 @@ public class LinearRestrictions<T extends Comparable<T>> implements TypedRestric
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public FieldValueSource<T> createFieldValueSource(Set<T> blacklist) {
         if (isContradictory) {
             return new NullOnlySource();
         }
+        if (granularity instanceof NumericGranularity) {
+            Optional<ScaledLongFieldValueSource> scaledLongSource =
+                ScaledLongFieldValueSource.create((LinearRestrictions<BigDecimal>) this, (Set<BigDecimal>) blacklist);
+            if (scaledLongSource.isPresent()) {
+                return (FieldValueSource<T>) scaledLongSource.get();
+            }
+        }
         return new LinearFieldValueSource<>(this, blacklist);
     }
 
@@ -74,6 +87,47 @@ public class LinearRestrictions<T extends Comparable<T>> implements TypedRestric
         return granularity;
     }
 
+    /**
+     * The number of values from min to max at this granularity, or empty if they can't be counted without stepping
+     * through them, or there are too many to count in a long.
+     */
+    public OptionalLong count() {
+        if (isContradictory) {
+            return OptionalLong.of(0);
+        }
+
+        OptionalLong steps = granularity.getStepsBetween(min, max);
+        return steps.isPresent()
+            ? OptionalLong.of(steps.getAsLong() + 1)
+            : steps;
+    }
+
+    /**
+     * The value at the given index, counting from min at this granularity; the same value as the index'th value
+     * stepped through from min.
+     */
+    public T valueAt(long index) {
+        return index == 0
+            ? min
+            : granularity.getNext(min, index);
+    }
+
+    /**
+     * The index of the given value, counting from min at this granularity, or empty if it isn't one of the values
+     * from min to max, or they can't be counted.
+     */
+    public OptionalLong indexOf(T value) {
+        if (isContradictory || min.compareTo(value) > 0 || max.compareTo(value) < 0) {
+            return OptionalLong.empty();
+        }
+
+        OptionalLong steps = granularity.getStepsBetween(min, value);
+        if (!steps.isPresent() || valueAt(steps.getAsLong()).compareTo(value) != 0) {
+            return OptionalLong.empty();
+        }
+        return steps;
+    }
+
     public boolean isContradictory() {
         return isContradictory;
     }
@@ -23,6 +23,7 @@ import com.scottlogic.datahelix.generator.core.generation.string.generators.NoSt
 import com.scottlogic.datahelix.generator.core.generation.string.generators.RegexStringGenerator;
 import com.scottlogic.datahelix.generator.core.generation.string.generators.StringGenerator;
 import com.scottlogic.datahelix.generator.core.restrictions.TypedRestrictions;
+import com.scottlogic.datahelix.generator.core.utils.MemoCache;
 
 import java.util.*;
 import java.util.function.Function;
@@ -33,6 +34,12 @@ import java.util.stream.Stream;
 
 public class StringRestrictions implements TypedRestrictions<String>
 {
+    /**
+     * Cache of generators, keyed on the length restrictions and the text of each set of regexes, so that equal
+     * restrictions built from different Pattern instances share the result of intersecting their automatons
+     */
+    private static final MemoCache<List<Object>, Optional<StringGenerator>> generatorCache = new MemoCache<>("String generator", 1_000);
+
     private final Integer minLength;
     private final Integer maxLength;
     private final Set<Integer> excludedLengths;
@@ -40,7 +47,7 @@ public class StringRestrictions implements TypedRestrictions<String>
     private final Set<Pattern> containingRegex;
     private final Set<Pattern> notMatchingRegex;
     private final Set<Pattern> notContainingRegex;
-    private StringGenerator generator;
+    private volatile StringGenerator generator;
     private String fakerSpec;
 
     public StringRestrictions(
@@ -186,16 +193,40 @@ public class StringRestrictions implements TypedRestrictions<String>
      * Yield NoStringsGenerator if no strings could be produced for the given restrictions
      */
     public StringGenerator createGenerator() {
+        StringGenerator generator = this.generator;
         if (generator != null){
             return generator;
         }
 
+        // no generator is needed when there are no restrictions at all
+        return this.generator = generatorCache.get(generatorCacheKey(), () -> Optional.ofNullable(buildGenerator()))
+            .orElse(null);
+    }
+
+    private List<Object> generatorCacheKey() {
+        return Arrays.asList(
+            minLength != null ? minLength : 0,
+            maxLength,
+            new TreeSet<>(excludedLengths),
+            patternsAsSortedStrings(matchingRegex),
+            patternsAsSortedStrings(containingRegex),
+            patternsAsSortedStrings(notMatchingRegex),
+            patternsAsSortedStrings(notContainingRegex));
+    }
+
+    private static Set<String> patternsAsSortedStrings(Set<Pattern> patterns) {
+        return patterns.stream()
+            .map(Pattern::toString)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private StringGenerator buildGenerator() {
         int minLength = this.minLength != null ? this.minLength : 0;
 
         //detect contradictions
         if (maxLength != null && (minLength > maxLength
             || allLengthsAreExcluded(minLength, maxLength, excludedLengths))) {
-            return generator = new NoStringsStringGenerator("Lengths are contradictory");
+            return new NoStringsStringGenerator("Lengths are contradictory");
         }
 
         //produce a regex, and a generator for it, that can produce ANY string within the given bounds
@@ -225,7 +256,7 @@ public class StringRestrictions implements TypedRestrictions<String>
                     return prev.intersect(current);
                 },
                 (a, b) -> null);
-        return generator = localGenerator;
+        return localGenerator;
     }
 
     /**
@@ -255,8 +286,8 @@ public class StringRestrictions implements TypedRestrictions<String>
         return concatStreams(
             getStringGenerators(matchingRegex, regex -> new RegexStringGenerator(regex, true)),
             getStringGenerators(containingRegex, regex -> new RegexStringGenerator(regex, false)),
-            getStringGenerators(notMatchingRegex, regex -> new RegexStringGenerator(regex, true).complement()),
-            getStringGenerators(notContainingRegex, regex -> new RegexStringGenerator(regex, false).complement())
+            getStringGenerators(notMatchingRegex, regex -> RegexStringGenerator.complementOf(regex, true)),
+            getStringGenerators(notContainingRegex, regex -> RegexStringGenerator.complementOf(regex, false))
         );
     }
 
@@ -387,7 +418,7 @@ public class StringRestrictions implements TypedRestrictions<String>
             && matchingRegex.equals(that.matchingRegex)
             && notContainingRegex.equals(that.notContainingRegex)
             && notMatchingRegex.equals(that.notMatchingRegex)
-            && (fakerSpec == null && that.fakerSpec == null) || (fakerSpec != null && fakerSpec.equals(that.fakerSpec));
+            && ((fakerSpec == null && that.fakerSpec == null) || (fakerSpec != null && fakerSpec.equals(that.fakerSpec)));
     }
 
     @Override
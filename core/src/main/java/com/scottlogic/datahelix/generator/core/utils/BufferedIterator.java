@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.utils;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * An iterator which reads ahead from a source iterator on an executor, keeping up to {@code capacity} items buffered.
+ *
+ * The source is only ever advanced by one fill task at a time, and fill tasks never block: once the buffer is full
+ * the task returns its thread to the executor and another is scheduled when the consumer has drained half of the
+ * buffer. This means many buffered iterators can share a small fixed pool without starving each other.
+ */
+public class BufferedIterator<T> implements Iterator<T> {
+    private static final Object END = new Object();
+    private static final Object NONE = new Object();
+
+    private final Supplier<Iterator<T>> sourceSupplier;
+    private final Executor executor;
+    private final int capacity;
+    private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>();
+    private final AtomicBoolean fillScheduled = new AtomicBoolean(false);
+    private volatile boolean sourceFinished;
+
+    private Iterator<T> source;
+    private Object next = NONE;
+
+    public BufferedIterator(Supplier<Iterator<T>> sourceSupplier, Executor executor, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be at least 1, was " + capacity);
+        }
+        this.sourceSupplier = sourceSupplier;
+        this.executor = executor;
+        this.capacity = capacity;
+        scheduleFill();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == NONE) {
+            next = take();
+        }
+        if (next instanceof Failure) {
+            throw ((Failure) next).rethrow();
+        }
+        return next != END;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T value = (T) next;
+        next = NONE;
+        return value;
+    }
+
+    private Object take() {
+        if (needsFill()) {
+            scheduleFill();
+        }
+        try {
+            return buffer.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for buffered values", e);
+        }
+    }
+
+    private boolean needsFill() {
+        return !sourceFinished && buffer.size() <= capacity / 2;
+    }
+
+    private void scheduleFill() {
+        if (!sourceFinished && fillScheduled.compareAndSet(false, true)) {
+            executor.execute(this::fill);
+        }
+    }
+
+    private void fill() {
+        try {
+            if (source == null) {
+                source = sourceSupplier.get();
+            }
+            while (buffer.size() < capacity) {
+                if (!source.hasNext()) {
+                    sourceFinished = true;
+                    buffer.add(END);
+                    return;
+                }
+                buffer.add(source.next());
+            }
+        } catch (RuntimeException | Error e) {
+            sourceFinished = true;
+            buffer.add(new Failure(e));
+        } finally {
+            fillScheduled.set(false);
+        }
+
+        // the consumer may have drained the buffer while this task still held the schedule flag
+        if (needsFill()) {
+            scheduleFill();
+        }
+    }
+
+    private static class Failure {
+        private final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+
+        RuntimeException rethrow() {
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return (RuntimeException) cause;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.utils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe cache of computed results, holding at most {@code capacity} entries.
+ *
+ * Once full, the oldest entries are evicted first. Values are computed outside of any lock, so two threads missing
+ * on the same key at once may both compute it; the first result stored is the one kept.
+ */
+public class MemoCache<K, V> {
+    private final String name;
+    private final int capacity;
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+    private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MemoCache(String name, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least 1, was " + capacity);
+        }
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+    public V get(K key, Supplier<V> compute) {
+        V cached = values.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        V computed = compute.get();
+        V existing = values.putIfAbsent(key, computed);
+        if (existing != null) {
+            return existing;
+        }
+
+        insertionOrder.add(key);
+        evictOverCapacity();
+        return computed;
+    }
+
+    private void evictOverCapacity() {
+        while (values.size() > capacity) {
+            K oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (values.remove(oldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Describes the combined hits, misses and evictions of several caches, such as the same cache of each generator of
+     * a sharded run.
+     */
+    public static String describeTotals(String name, Collection<? extends MemoCache<?, ?>> caches) {
+        return describe(
+            name,
+            caches.stream().mapToLong(MemoCache::getHits).sum(),
+            caches.stream().mapToLong(MemoCache::getMisses).sum(),
+            caches.stream().mapToLong(MemoCache::getEvictions).sum());
+    }
+
+    @Override
+    public String toString() {
+        return describe(name, getHits(), getMisses(), getEvictions());
+    }
+
+    private static String describe(String name, long hits, long misses, long evictions) {
+        return String.format("%s cache: %d hits, %d misses, %d evictions", name, hits, misses, evictions);
+    }
+}
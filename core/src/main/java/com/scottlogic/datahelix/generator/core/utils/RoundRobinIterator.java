@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Takes one value from each underlying iterator in turn, dropping iterators as they are exhausted.
+ */
+public class RoundRobinIterator<T> implements Iterator<T> {
+    private final List<Iterator<T>> iterators;
+    private int current;
+
+    public RoundRobinIterator(List<Iterator<T>> iterators) {
+        this.iterators = new ArrayList<>(iterators);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!iterators.isEmpty()) {
+            if (current >= iterators.size()) {
+                current = 0;
+            }
+            if (iterators.get(current).hasNext()) {
+                return true;
+            }
+            iterators.remove(current);
+        }
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return iterators.get(current++).next();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.utils;
+
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+/**
+ * A random number generator backed by {@link SplittableRandom}. Unlike {@link JavaUtilRandomNumberGenerator} it does
+ * not synchronise on every call, so each instance must only be used by one thread at a time. Use {@link #split()} to
+ * give each consumer its own independent stream; streams split in the same order from the same seed always produce
+ * the same values.
+ */
+public class SplittableRandomNumberGenerator implements RandomNumberGenerator {
+    private final SplittableRandom random;
+
+    public SplittableRandomNumberGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomNumberGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    public SplittableRandomNumberGenerator split() {
+        return new SplittableRandomNumberGenerator(random.split());
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong(long lowerInclusive, long upperExclusive) {
+        if (upperExclusive <= lowerInclusive) {
+            return lowerInclusive;
+        }
+        return random.nextLong(lowerInclusive, upperExclusive);
+    }
+
+    @Override
+    public double nextDouble(double lowerInclusive, double upperExclusive) {
+        return (random.nextDouble()
+            * (upperExclusive - lowerInclusive))
+            + lowerInclusive;
+    }
+
+    @Override
+    public BigDecimal nextBigDecimal(BigDecimal lowerInclusive, BigDecimal upperExclusive) {
+        int greatestScale = Math.max(lowerInclusive.scale(), upperExclusive.scale());
+        BigInteger lowerValue = adjustToScale(lowerInclusive, greatestScale);
+        BigInteger upperValue = adjustToScale(upperExclusive, greatestScale);
+
+        return new BigDecimal(nextBigInteger(lowerValue, upperValue), greatestScale);
+    }
+
+    private BigInteger adjustToScale(BigDecimal decimal, int scale) {
+        return decimal.unscaledValue().multiply(BigInteger.TEN.pow(scale - decimal.scale()));
+    }
+
+    private BigInteger nextBigInteger(BigInteger lowerInclusive, BigInteger upperExclusive) {
+        BigInteger range = upperExclusive.subtract(lowerInclusive);
+        BigInteger randomValue = null;
+        while (randomValue == null || randomValue.compareTo(range) >= 0) {
+            randomValue = randomBits(range.bitLength());
+        }
+        return lowerInclusive.add(randomValue);
+    }
+
+    private BigInteger randomBits(int bits) {
+        byte[] bytes = new byte[(bits + 7) / 8];
+        for (int i = 0; i < bytes.length; i += 8) {
+            long value = random.nextLong();
+            for (int j = i; j < Math.min(i + 8, bytes.length); j++) {
+                bytes[j] = (byte) value;
+                value >>= 8;
+            }
+        }
+        int excessBits = bytes.length * 8 - bits;
+        if (bytes.length > 0) {
+            bytes[0] &= (byte) (0xFF >>> excessBits);
+        }
+        return new BigInteger(1, bytes);
+    }
+}
@@ -15,20 +15,23 @@
  */
 package com.scottlogic.datahelix.generator.core.walker.decisionbased;
 
+
+import com.google.inject.Inject;
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
 import com.scottlogic.datahelix.generator.core.decisiontree.ConstraintNode;
 import com.scottlogic.datahelix.generator.core.decisiontree.DecisionNode;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Stream;
 
 public class RandomOptionPicker implements OptionPicker {
-    private final Random random;
+    private final RandomNumberGenerator random;
 
-    public RandomOptionPicker() {
-        this.random = new Random();
+    @Inject
+    public RandomOptionPicker(RandomNumberGenerator random) {
+        this.random = random;
     }
 
     @Override
@@ -41,7 +44,9 @@ public class RandomOptionPicker implements OptionPicker {
     @Override
     public Stream<ConstraintNode> streamOptions(DecisionNode decisionNode) {
         List<ConstraintNode> options = new ArrayList<>(decisionNode.getOptions());
-        Collections.shuffle(options);
+        for (int i = options.size() - 1; i > 0; i--) {
+            Collections.swap(options, i, random.nextInt(i + 1));
+        }
         return options.stream();
     }
 }
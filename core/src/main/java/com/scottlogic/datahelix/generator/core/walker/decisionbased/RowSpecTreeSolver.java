@@ -29,15 +29,20 @@ import com.scottlogic.datahelix.generator.core.reducer.ConstraintReducer;
 import com.scottlogic.datahelix.generator.core.walker.pruner.Merged;
 import com.scottlogic.datahelix.generator.core.walker.pruner.TreePruner;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.scottlogic.datahelix.generator.common.util.FlatMappingSpliterator.flatMap;
 
 public class RowSpecTreeSolver {
+    private static final int MAX_SOLVED_NODES = 100_000;
+
     private final ConstraintReducer constraintReducer;
     private final TreePruner treePruner;
     private final OptionPicker optionPicker;
@@ -56,6 +61,40 @@ public class RowSpecTreeSolver {
             rootNode -> toRowspec(tree.fields, rootNode));
     }
 
+    /**
+     * Returns a supplier of row specs, each from its own random walk of the tree. A decision is re-picked at every
+     * node on every walk, but the node reached through each option, and the row spec of each row node, are only
+     * solved the first time the walk gets there.
+     * The supplier returns empty if no option of the tree leads to a row spec.
+     */
+    public Supplier<Optional<RowSpec>> createRandomRowSpecSupplier(DecisionTree tree) {
+        SolvedNodes solvedNodes = new SolvedNodes();
+        return () -> pickRowSpec(tree.fields, tree.rootNode, solvedNodes);
+    }
+
+    private Optional<RowSpec> pickRowSpec(Fields fields, ConstraintNode node, SolvedNodes solvedNodes) {
+        if (node.getDecisions().isEmpty()) {
+            return solvedNodes.getRowSpec(node, () -> constraintReducer.reduceConstraintsToRowSpec(fields, node));
+        }
+
+        DecisionNode decisionNode = optionPicker.pickDecision(node);
+        Iterator<ConstraintNode> options = optionPicker.streamOptions(decisionNode).iterator();
+        while (options.hasNext()) {
+            ConstraintNode option = options.next();
+            Merged<ConstraintNode> chosen = solvedNodes.getChosen(node, decisionNode, option,
+                () -> combineWithRootNode(node.builder().removeDecision(decisionNode).build(), option));
+            if (chosen.isContradictory()) {
+                continue;
+            }
+
+            Optional<RowSpec> rowSpec = pickRowSpec(fields, chosen.get(), solvedNodes);
+            if (rowSpec.isPresent()) {
+                return rowSpec;
+            }
+        }
+        return Optional.empty();
+    }
+
     private Stream<RowSpec> toRowspec(Fields fields, ConstraintNode rootNode) {
         Optional<RowSpec> result = constraintReducer.reduceConstraintsToRowSpec(fields, rootNode);
         return result.map(Stream::of).orElseGet(Stream::empty);
@@ -101,4 +140,57 @@ public class RowSpecTreeSolver {
                 field -> FieldSpecFactory.fromType(field.getType())));
     }
 
+    /**
+     * The nodes already solved by a random walk, keyed by the identity of the nodes they were solved from.
+     * Solved nodes are reused by later walks, so the same choices lead to the same node instances.
+     * Once full, further nodes are solved on every walk rather than kept.
+     */
+    private static class SolvedNodes {
+        private final Map<Choice, Merged<ConstraintNode>> chosenNodes = new HashMap<>();
+        private final Map<Choice, Optional<RowSpec>> rowSpecs = new HashMap<>();
+
+        Merged<ConstraintNode> getChosen(ConstraintNode node, DecisionNode decision, ConstraintNode option, Supplier<Merged<ConstraintNode>> solve) {
+            return get(chosenNodes, new Choice(node, decision, option), solve);
+        }
+
+        Optional<RowSpec> getRowSpec(ConstraintNode node, Supplier<Optional<RowSpec>> solve) {
+            return get(rowSpecs, new Choice(node, null, null), solve);
+        }
+
+        private <T> T get(Map<Choice, T> solved, Choice choice, Supplier<T> solve) {
+            T value = solved.get(choice);
+            if (value == null) {
+                value = solve.get();
+                if (chosenNodes.size() + rowSpecs.size() < MAX_SOLVED_NODES) {
+                    solved.put(choice, value);
+                }
+            }
+            return value;
+        }
+    }
+
+    private static class Choice {
+        private final ConstraintNode node;
+        private final DecisionNode decision;
+        private final ConstraintNode option;
+
+        Choice(ConstraintNode node, DecisionNode decision, ConstraintNode option) {
+            this.node = node;
+            this.decision = decision;
+            this.option = option;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Choice choice = (Choice) o;
+            return node == choice.node && decision == choice.decision && option == choice.option;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(node) + System.identityHashCode(decision)) + System.identityHashCode(option);
+        }
+    }
 }
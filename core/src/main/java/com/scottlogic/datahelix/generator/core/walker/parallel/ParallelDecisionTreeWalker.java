@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.walker.parallel;
+
+import com.scottlogic.datahelix.generator.common.SetUtils;
+import com.scottlogic.datahelix.generator.common.util.DaemonThreadFactory;
+import com.scottlogic.datahelix.generator.core.decisiontree.DecisionTree;
+import com.scottlogic.datahelix.generator.core.generation.databags.DataBag;
+import com.scottlogic.datahelix.generator.core.utils.BufferedIterator;
+import com.scottlogic.datahelix.generator.core.walker.DecisionTreeWalker;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Walks each partition of the tree on a worker thread, reading ahead into a bounded buffer which the combination
+ * strategy then consumes from the calling thread. Each walk uses a new walker, created on the calling thread, so
+ * walks share no state and each partition's values don't depend on how the threads are scheduled.
+ *
+ * All walks share one pool of worker threads, which exit once idle, so that a walker which is no longer used holds no
+ * threads and needs no shutting down.
+ */
+public class ParallelDecisionTreeWalker implements DecisionTreeWalker {
+    private final Supplier<DecisionTreeWalker> walkerFactory;
+    private final ExecutorService executor;
+    private final int bufferSize;
+
+    public ParallelDecisionTreeWalker(Supplier<DecisionTreeWalker> walkerFactory, int threads, int bufferSize) {
+        this.walkerFactory = walkerFactory;
+        this.executor = DaemonThreadFactory.newIdleExitingThreadPool("partition-walker", threads);
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public Stream<DataBag> walk(DecisionTree tree) {
+        DecisionTreeWalker walker = walkerFactory.get();
+        return SetUtils.stream(new BufferedIterator<>(
+            () -> walker.walk(tree).iterator(),
+            executor,
+            bufferSize));
+    }
+}
@@ -17,16 +17,17 @@
 package com.scottlogic.datahelix.generator.core.walker.rowspec;
 
 import com.google.inject.Inject;
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
 import com.scottlogic.datahelix.generator.core.decisiontree.DecisionTree;
 import com.scottlogic.datahelix.generator.core.fieldspecs.RowSpec;
 import com.scottlogic.datahelix.generator.core.generation.databags.DataBag;
 import com.scottlogic.datahelix.generator.core.generation.databags.RowSpecDataBagGenerator;
-import com.scottlogic.datahelix.generator.core.utils.JavaUtilRandomNumberGenerator;
 import com.scottlogic.datahelix.generator.core.walker.DecisionTreeWalker;
 import com.scottlogic.datahelix.generator.core.walker.decisionbased.RowSpecTreeSolver;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,13 +35,13 @@ public class RandomRowSpecDecisionTreeWalker implements DecisionTreeWalker {
     private final RowSpecTreeSolver rowSpecTreeSolver;
     private final RowSpecDataBagGenerator rowSpecDataBagGenerator;
     private PotentialRowSpecCount potentialRowSpecCount;
-    private final JavaUtilRandomNumberGenerator random;
+    private final RandomNumberGenerator random;
 
     @Inject
     public RandomRowSpecDecisionTreeWalker(RowSpecTreeSolver rowSpecTreeSolver,
                                            RowSpecDataBagGenerator rowSpecDataBagGenerator,
                                            PotentialRowSpecCount potentialRowSpecCount,
-                                           JavaUtilRandomNumberGenerator random) {
+                                           RandomNumberGenerator random) {
         this.rowSpecTreeSolver = rowSpecTreeSolver;
         this.rowSpecDataBagGenerator = rowSpecDataBagGenerator;
         this.potentialRowSpecCount = potentialRowSpecCount;
@@ -69,13 +70,15 @@ public class RandomRowSpecDecisionTreeWalker implements DecisionTreeWalker {
     }
 
     private Stream<RowSpec> getRowSpecAndRestart(DecisionTree tree) {
-        Optional<RowSpec> firstRowSpecOpt = getFirstRowSpec(tree);
+        Supplier<Optional<RowSpec>> rowSpecSupplier = rowSpecTreeSolver.createRandomRowSpecSupplier(tree);
+        Optional<RowSpec> firstRowSpecOpt = rowSpecSupplier.get();
         if (!firstRowSpecOpt.isPresent()) {
             return Stream.empty();
         }
 
-        return Stream.generate(() -> getFirstRowSpec(tree))
-            .map(Optional::get);
+        return Stream.concat(
+            Stream.of(firstRowSpecOpt.get()),
+            Stream.generate(rowSpecSupplier).map(Optional::get));
     }
 
     private Optional<RowSpec> getFirstRowSpec(DecisionTree tree) {
@@ -64,4 +64,18 @@ class InMapIndexRelationTest {
 
         assertThat(actual, sameBeanAs(expected));
     }
-}
\ No newline at end of file
+
+    @Test
+    void reduceToRelatedFieldSpec_whenValueRepeated_returnsEveryIndexInOrder() {
+        InMapIndexRelation relation = new InMapIndexRelation(
+            createField("field1"),
+            createField("field2"),
+            DistributedList.uniform(Arrays.asList("foo", "bar", "foo", "baz")));
+        FieldSpec parameter = FieldSpecFactory.fromRestriction(StringRestrictionsFactory.forStringContaining(Pattern.compile("^f.*"), false));
+
+        FieldSpec expected = FieldSpecFactory.fromList(DistributedList.uniform(Arrays.asList(0, 2))).withNotNull();
+        FieldSpec actual = relation.createModifierFromOtherFieldSpec(parameter);
+
+        assertThat(actual, sameBeanAs(expected));
+    }
+}
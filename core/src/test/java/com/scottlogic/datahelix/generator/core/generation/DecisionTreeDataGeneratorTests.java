@@ -128,5 +128,21 @@ class DecisionTreeDataGeneratorTests {
             // Verify
             verify(visualiser, times(2)).printTree(any(), any());
         }
+
+        @Test
+        void generateData_calledRepeatedlyWithSameProfile_analysesProfileOnce() {
+            //Arrange
+            DecisionTree outputTree = Mockito.mock(DecisionTree.class);
+            Mockito.when(outputTree.getRootNode()).thenReturn(rootNode);
+            Mockito.when(upfrontTreePruner.runUpfrontPrune(eq(tree), any())).thenReturn(outputTree);
+
+            //Act
+            generator.generateData(profile).count();
+            generator.generateData(profile).count();
+
+            // Verify
+            verify(factory, times(1)).analyse(profile);
+            verify(upfrontTreePruner, times(1)).runUpfrontPrune(eq(tree), any());
+        }
     }
 }
@@ -112,6 +112,7 @@ class FieldSpecValueGeneratorTests {
             when(fieldSpec.getFieldValueSource()).thenReturn(fieldValueSource);
             when(fieldValueSource.generateAllValues()).thenReturn(Stream.empty());
             when(fieldValueSource.generateRandomValues(randomNumberGenerator)).thenReturn(Stream.empty());
+            when(fieldValueSource.generateUniqueRandomValues(randomNumberGenerator)).thenReturn(Stream.empty());
         }
 
         @Test
@@ -127,6 +128,34 @@ class FieldSpecValueGeneratorTests {
             verify(fieldValueSource, times(0)).generateRandomValues(randomNumberGenerator);
         }
 
+        @Test
+        void generateRandom_uniqueFieldSpecWithShuffledUniqueValues_returnsUniqueRandomValues() {
+            FieldSpecValueGenerator fieldSpecFulfiller = new FieldSpecValueGenerator(
+                RANDOM,
+                randomNumberGenerator,
+                true
+            );
+
+            fieldSpecFulfiller.generate(new Field(null, StandardSpecificFieldType.STRING.toSpecificFieldType(), true, null, false, false, null), fieldSpec).collect(Collectors.toSet());
+
+            verify(fieldValueSource, times(0)).generateAllValues();
+            verify(fieldValueSource, times(1)).generateUniqueRandomValues(randomNumberGenerator);
+        }
+
+        @Test
+        void generateSequential_uniqueFieldSpecWithShuffledUniqueValues_returnsAllValues() {
+            FieldSpecValueGenerator fieldSpecFulfiller = new FieldSpecValueGenerator(
+                FULL_SEQUENTIAL,
+                randomNumberGenerator,
+                true
+            );
+
+            fieldSpecFulfiller.generate(new Field(null, StandardSpecificFieldType.STRING.toSpecificFieldType(), true, null, false, false, null), fieldSpec).collect(Collectors.toSet());
+
+            verify(fieldValueSource, times(1)).generateAllValues();
+            verify(fieldValueSource, times(0)).generateUniqueRandomValues(randomNumberGenerator);
+        }
+
         @Test
         void generateRandom_notUniqueFieldSpec_returnsRandomValues() {
             FieldSpecValueGenerator fieldSpecFulfiller = new FieldSpecValueGenerator(
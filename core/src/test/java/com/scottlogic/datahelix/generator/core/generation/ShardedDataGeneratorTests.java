@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation;
+
+import com.scottlogic.datahelix.generator.common.ValidationException;
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.common.profile.ProfileFields;
+import com.scottlogic.datahelix.generator.common.profile.StandardSpecificFieldType;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.profile.Profile;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.scottlogic.datahelix.generator.common.profile.FieldBuilder.createField;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardedDataGeneratorTests {
+    private final Profile profile = new Profile(
+        Collections.singletonList(createField("field")),
+        Collections.emptyList(),
+        Collections.emptyList());
+
+    @Test
+    void generateData_withSeveralShards_interleavesRowsFromEachShard() {
+        GeneratedObject a1 = row(), a2 = row(), b1 = row(), b2 = row(), c1 = row();
+        ShardedDataGenerator generator = new ShardedDataGenerator(
+            Arrays.asList(shard(a1, a2), shard(b1, b2), shard(c1)),
+            DataGenerationType.RANDOM,
+            2);
+
+        List<GeneratedObject> rows = generator.generateData(profile).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(a1, b1, c1, a2, b2), rows);
+    }
+
+    @Test
+    void generateData_whenShardFails_propagatesFailure() {
+        DataGenerator failingShard = p -> {
+            throw new IllegalStateException("shard failure");
+        };
+        ShardedDataGenerator generator = new ShardedDataGenerator(
+            Arrays.asList(shard(row()), failingShard),
+            DataGenerationType.RANDOM,
+            2);
+
+        assertThrows(IllegalStateException.class, () -> generator.generateData(profile).count());
+    }
+
+    @Test
+    void generateData_inFullSequentialMode_throwsRatherThanRepeatingRows() {
+        GeneratedObject a1 = row(), a2 = row();
+        ShardedDataGenerator generator = new ShardedDataGenerator(
+            Arrays.asList(shard(a1, a2), shard(a1, a2)),
+            DataGenerationType.FULL_SEQUENTIAL,
+            2);
+
+        assertThrows(ValidationException.class, () -> generator.generateData(profile));
+    }
+
+    @Test
+    void generateData_withUniqueField_throwsRatherThanRepeatingUniqueValues() {
+        Field unique = new Field("unique", StandardSpecificFieldType.INTEGER.toSpecificFieldType(), true, null, false, false, null);
+        Profile uniqueProfile = new Profile(
+            new ProfileFields(Arrays.asList(createField("field"), unique)),
+            Collections.emptyList(),
+            Collections.emptyList());
+        ShardedDataGenerator generator = new ShardedDataGenerator(
+            Arrays.asList(shard(row()), shard(row())),
+            DataGenerationType.RANDOM,
+            2);
+
+        assertThrows(ValidationException.class, () -> generator.generateData(uniqueProfile));
+    }
+
+    private static DataGenerator shard(GeneratedObject... rows) {
+        return p -> Stream.of(rows);
+    }
+
+    private static GeneratedObject row() {
+        return Mockito.mock(GeneratedObject.class);
+    }
+}
@@ -74,6 +74,30 @@ public class TestGenerationConfigSource implements GenerationConfigSource
         return infiniteOutput;
     }
 
+    @Override
+    public int getPartitionThreads()
+    {
+        return 1;
+    }
+
+    @Override
+    public int getThreads()
+    {
+        return 1;
+    }
+
+    @Override
+    public Long getSeed()
+    {
+        return null;
+    }
+
+    @Override
+    public boolean getShuffleUniqueValues()
+    {
+        return false;
+    }
+
     @Override
     public MonitorType getMonitorType()
     {
@@ -23,6 +23,7 @@ import org.mockito.Mockito;
 import java.io.PrintWriter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.times;
@@ -48,4 +49,24 @@ public class VelocityMonitorTests {
         Mockito.verify(mockWriter, times(5)).println(args.capture());
         assertEquals(expectedStrings, args.getAllValues().subList(3, 5));
     }
+
+    @Test
+    public void endGeneration_reportsSampledQueueDepths() {
+        PrintWriter mockWriter = Mockito.mock(PrintWriter.class);
+        VelocityMonitor monitor = new VelocityMonitor(mockWriter);
+        AtomicInteger depth = new AtomicInteger(2);
+
+        monitor.generationStarting();
+        monitor.addQueueToReportAtEndOfGeneration("Output queue", depth::get, 8);
+        monitor.sampleQueueDepths();
+        depth.set(6);
+        monitor.sampleQueueDepths();
+        monitor.endGeneration();
+
+        ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+        Mockito.verify(mockWriter).println(args.capture());
+        assertEquals(
+            "Output queue of 8 rows: average depth 4.0, peak depth 6, over 2 samples",
+            args.getValue().toString());
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.batch;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.common.profile.ProfileFields;
+import com.scottlogic.datahelix.generator.common.profile.StandardSpecificFieldType;
+import com.scottlogic.datahelix.generator.core.generation.databags.DataBag;
+import com.scottlogic.datahelix.generator.core.generation.databags.DataBagValue;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnBatchesTests {
+    private static final OffsetDateTime DATETIME = OffsetDateTime.of(2020, 1, 2, 3, 4, 5, 6_000_000, ZoneOffset.UTC);
+
+    private final Field integer = field("integer", StandardSpecificFieldType.INTEGER);
+    private final Field decimal = field("decimal", StandardSpecificFieldType.DECIMAL);
+    private final Field datetime = field("datetime", StandardSpecificFieldType.DATETIME);
+    private final Field time = field("time", StandardSpecificFieldType.TIME);
+    private final Field bool = field("boolean", StandardSpecificFieldType.BOOLEAN);
+    private final Field string = field("string", StandardSpecificFieldType.STRING);
+    private final ProfileFields fields = new ProfileFields(Arrays.asList(string, integer, decimal, datetime, time, bool));
+
+    @Test
+    void of_withRowsOfEachType_shouldHoldEachColumnInPrimitives() {
+        List<ColumnBatch> batches = batches(3,
+            row(1, "1.5", DATETIME, LocalTime.of(0, 0, 1), true, "a"),
+            row(2, "2.5", DATETIME, LocalTime.of(0, 0, 2), false, "b"));
+
+        assertEquals(1, batches.size());
+        ColumnBatch batch = batches.get(0);
+        assertEquals(2, batch.size());
+        assertEquals(
+            Arrays.asList(string, integer, decimal, datetime, time, bool),
+            batch.getColumns().stream().map(Column::getField).collect(Collectors.toList()));
+        assertArrayEquals(new long[]{ 1, 2 }, ((LongColumn) batch.getColumn(integer)).getValues());
+        assertArrayEquals(new double[]{ 1.5, 2.5 }, ((DoubleColumn) batch.getColumn(decimal)).getValues());
+        long millis = DATETIME.toInstant().toEpochMilli();
+        assertArrayEquals(new long[]{ millis, millis }, ((LongColumn) batch.getColumn(datetime)).getValues());
+        assertArrayEquals(new long[]{ 1_000, 2_000 }, ((LongColumn) batch.getColumn(time)).getValues());
+        assertArrayEquals(new boolean[]{ true, false }, ((BooleanColumn) batch.getColumn(bool)).getValues());
+        assertArrayEquals(new String[]{ "a", "b" }, ((StringColumn) batch.getColumn(string)).getValues());
+    }
+
+    @Test
+    void of_withMoreRowsThanTheBatchSize_shouldSplitRowsIntoBatchesInOrder() {
+        List<ColumnBatch> batches = batches(2,
+            row(1, "0", DATETIME, null, null, "a"),
+            row(2, "0", DATETIME, null, null, "b"),
+            row(3, "0", DATETIME, null, null, "c"));
+
+        assertEquals(Arrays.asList(2, 1), batches.stream().map(ColumnBatch::size).collect(Collectors.toList()));
+        assertArrayEquals(new long[]{ 1, 2 }, ((LongColumn) batches.get(0).getColumn(integer)).getValues());
+        assertArrayEquals(new long[]{ 3 }, ((LongColumn) batches.get(1).getColumn(integer)).getValues());
+    }
+
+    @Test
+    void of_withNullValues_shouldMarkThemInTheNullBitmap() {
+        ColumnBatch batch = batches(2,
+            row(null, "1", DATETIME, null, true, null),
+            row(2, "1", null, LocalTime.NOON, null, "b")).get(0);
+
+        assertTrue(batch.getColumn(integer).isNull(0));
+        assertFalse(batch.getColumn(integer).isNull(1));
+        assertTrue(batch.getColumn(datetime).isNull(1));
+        assertTrue(batch.getColumn(time).isNull(0));
+        assertTrue(batch.getColumn(bool).isNull(1));
+        assertTrue(batch.getColumn(string).isNull(0));
+        assertEquals(1, batch.getColumn(integer).getNulls().cardinality());
+    }
+
+    @Test
+    void of_withNumbersThatNoPrimitiveHoldsExactly_shouldHoldThemAsGenerated() {
+        ColumnBatch batch = batches(2,
+            row(new BigDecimal("1e20"), "0.12345678901234567890", DATETIME, null, null, "a")).get(0);
+
+        assertEquals(ColumnType.OBJECT, batch.getColumn(integer).getType());
+        assertEquals(ColumnType.OBJECT, batch.getColumn(decimal).getType());
+        assertArrayEquals(
+            new Object[]{ new BigDecimal("0.12345678901234567890") },
+            ((ObjectColumn) batch.getColumn(decimal)).getValues());
+    }
+
+    private List<ColumnBatch> batches(int batchSize, GeneratedObject... rows) {
+        return ColumnBatches.of(fields, Stream.of(rows), batchSize).collect(Collectors.toList());
+    }
+
+    private GeneratedObject row(Object integerValue, String decimalValue, OffsetDateTime datetimeValue, LocalTime timeValue, Boolean booleanValue, String stringValue) {
+        Map<Field, DataBagValue> values = new HashMap<>();
+        values.put(integer, new DataBagValue(integerValue instanceof Integer
+            ? BigDecimal.valueOf((Integer) integerValue)
+            : integerValue));
+        values.put(decimal, new DataBagValue(new BigDecimal(decimalValue)));
+        values.put(datetime, new DataBagValue(datetimeValue));
+        values.put(time, new DataBagValue(timeValue));
+        values.put(bool, new DataBagValue(booleanValue));
+        values.put(string, new DataBagValue(stringValue));
+        return new DataBag(values);
+    }
+
+    private static Field field(String name, StandardSpecificFieldType type) {
+        return new Field(name, type.toSpecificFieldType(), false, null, false, true, null);
+    }
+}
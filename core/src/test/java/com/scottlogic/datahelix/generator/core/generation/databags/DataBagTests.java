@@ -109,4 +109,69 @@ class DataBagTests {
             IllegalArgumentException.class,
             () -> DataBag.merge(dataBag1, dataBag2));
     }
+
+    @Test
+    void getShouldReturnValueForAnEqualField() {
+        // ARRANGE
+        DataBag objectUnderTest = new DataBagBuilder().set(createField("id"), 3).build();
+
+        // ACT / ASSERT
+        Assert.assertThat(
+            objectUnderTest.getFormattedValue(createField("id")),
+            equalTo(3));
+    }
+
+    @Test
+    void mergeOfManyDataBagsShouldContainTheValuesOfAllInputs() {
+        // ARRANGE
+        Field idField = createField("id");
+        Field priceField = createField("price");
+        Field nameField = createField("name");
+
+        DataBag dataBag1 = new DataBagBuilder().set(nameField, "foo").build();
+        DataBag dataBag2 = new DataBagBuilder().set(idField, 3).build();
+        DataBag dataBag3 = new DataBagBuilder().set(priceField, 4).build();
+
+        // ACT
+        DataBag mergedDataBag = DataBag.merge(dataBag1, dataBag2, dataBag3);
+
+        // ASSERT
+        Assert.assertThat(
+            mergedDataBag,
+            equalTo(new DataBagBuilder().set(idField, 3).set(priceField, 4).set(nameField, "foo").build()));
+    }
+
+    @Test
+    void mergeOfManyDataBagsShouldThrowIfDataBagsOverlap() {
+        // ARRANGE
+        Field idField = createField("id");
+        Field priceField = createField("price");
+
+        DataBag dataBag1 = new DataBagBuilder().set(idField, "foo").build();
+        DataBag dataBag2 = new DataBagBuilder().set(priceField, 4).build();
+        DataBag dataBag3 = new DataBagBuilder().set(idField, "bar").build();
+
+        // ACT / ASSERT
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> DataBag.merge(dataBag1, dataBag2, dataBag3));
+    }
+
+    @Test
+    void dataBagsWithTheSameValuesShouldBeEqualWhateverOrderTheyWereMergedIn() {
+        // ARRANGE
+        Field idField = createField("id");
+        Field priceField = createField("price");
+
+        DataBag idBag = DataBag.of(idField, new DataBagValue(3));
+        DataBag priceBag = DataBag.of(priceField, new DataBagValue(4));
+
+        // ACT
+        DataBag idFirst = DataBag.merge(idBag, priceBag);
+        DataBag priceFirst = DataBag.merge(priceBag, idBag);
+
+        // ASSERT
+        Assert.assertThat(idFirst, equalTo(priceFirst));
+        Assert.assertThat(idFirst.hashCode(), equalTo(priceFirst.hashCode()));
+    }
 }
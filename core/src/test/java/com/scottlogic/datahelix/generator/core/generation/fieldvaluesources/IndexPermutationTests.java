@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.fieldvaluesources;
+
+import com.scottlogic.datahelix.generator.core.utils.JavaUtilRandomNumberGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexPermutationTests {
+    @Test
+    void get_forEveryIndex_returnsEachIndexOnce() {
+        for (long size : new long[]{ 1, 2, 3, 5, 64, 1000, 4097 }) {
+            IndexPermutation permutation = new IndexPermutation(size, new JavaUtilRandomNumberGenerator(size));
+
+            Set<Long> shuffled = LongStream.range(0, size)
+                .map(permutation::get)
+                .boxed()
+                .collect(Collectors.toSet());
+
+            assertEquals(LongStream.range(0, size).boxed().collect(Collectors.toSet()), shuffled);
+        }
+    }
+
+    @Test
+    void get_withTheSameSeed_returnsTheSameOrder() {
+        IndexPermutation first = new IndexPermutation(1_000_000_000_000L, new JavaUtilRandomNumberGenerator(1));
+        IndexPermutation second = new IndexPermutation(1_000_000_000_000L, new JavaUtilRandomNumberGenerator(1));
+
+        for (long index = 0; index < 100; index++) {
+            long shuffled = first.get(index);
+            assertTrue(shuffled >= 0 && shuffled < 1_000_000_000_000L);
+            assertEquals(shuffled, second.get(index));
+        }
+    }
+
+    @Test
+    void get_withTheLargestSize_returnsIndexesInRange() {
+        IndexPermutation permutation = new IndexPermutation(Long.MAX_VALUE, new JavaUtilRandomNumberGenerator(1));
+
+        for (long index = Long.MAX_VALUE - 100; index < Long.MAX_VALUE; index++) {
+            assertTrue(permutation.get(index) >= 0);
+        }
+    }
+
+    @Test
+    void get_withIndexOutsideTheRange_throws() {
+        IndexPermutation permutation = new IndexPermutation(10, new JavaUtilRandomNumberGenerator(1));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> permutation.get(10));
+    }
+}
@@ -15,13 +15,22 @@
  */
 package com.scottlogic.datahelix.generator.core.generation.fieldvaluesources;
 
+import com.scottlogic.datahelix.generator.common.profile.DateTimeGranularity;
 import com.scottlogic.datahelix.generator.common.profile.NumericGranularity;
 import com.scottlogic.datahelix.generator.core.restrictions.linear.LinearRestrictions;
 import com.scottlogic.datahelix.generator.core.utils.JavaUtilRandomNumberGenerator;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,4 +49,104 @@ class LinearFieldValueSourceTest {
         assertTrue(results.limit(100).allMatch(x -> x.intValue() >= 0 & x.intValue() < 5));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void generateUniqueRandomValues_withCountableRange_returnsEachValueOnceShuffled() {
+        LinearRestrictions<BigDecimal> restrictions = new LinearRestrictions<>(
+            BigDecimal.ZERO,
+            BigDecimal.valueOf(99),
+            new NumericGranularity(0));
+        LinearFieldValueSource<BigDecimal> source = new LinearFieldValueSource<>(restrictions, Collections.singleton(BigDecimal.TEN));
+
+        List<BigDecimal> results = source.generateUniqueRandomValues(new JavaUtilRandomNumberGenerator(0)).collect(Collectors.toList());
+
+        List<BigDecimal> expected = source.generateAllValues().collect(Collectors.toList());
+        assertEquals(99, results.size());
+        assertFalse(results.contains(BigDecimal.TEN));
+        assertNotEquals(expected, results);
+        assertEquals(expected, results.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void generateUniqueRandomValues_withDateTimes_returnsTheValuesSteppedThrough() {
+        OffsetDateTime min = OffsetDateTime.of(2020, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+        LinearRestrictions<OffsetDateTime> restrictions = new LinearRestrictions<>(
+            min,
+            min.plusHours(10),
+            new DateTimeGranularity(ChronoUnit.HOURS));
+        LinearFieldValueSource<OffsetDateTime> source = new LinearFieldValueSource<>(restrictions, Collections.emptySet());
+
+        List<OffsetDateTime> results = source.generateUniqueRandomValues(new JavaUtilRandomNumberGenerator(0))
+            .sorted()
+            .collect(Collectors.toList());
+
+        assertEquals(source.generateAllValues().collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void generateUniqueRandomValues_withRangeTooLargeToCount_returnsValuesInOrder() {
+        LinearRestrictions<BigDecimal> restrictions = new LinearRestrictions<>(
+            BigDecimal.ZERO,
+            new BigDecimal("1e20"),
+            new NumericGranularity(0));
+        LinearFieldValueSource<BigDecimal> source = new LinearFieldValueSource<>(restrictions, Collections.emptySet());
+
+        List<BigDecimal> results = source.generateUniqueRandomValues(new JavaUtilRandomNumberGenerator(0)).limit(3).collect(Collectors.toList());
+
+        assertEquals(source.generateAllValues().limit(3).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void countValueAtAndIndexOf_withCountableRange_agreeWithTheValuesSteppedThrough() {
+        LinearRestrictions<BigDecimal> restrictions = new LinearRestrictions<>(
+            BigDecimal.ZERO,
+            BigDecimal.valueOf(100),
+            new NumericGranularity(-1));
+        LinearFieldValueSource<BigDecimal> source = new LinearFieldValueSource<>(restrictions, Collections.emptySet());
+
+        List<BigDecimal> values = source.generateAllValues().collect(Collectors.toList());
+
+        assertEquals(OptionalLong.of(values.size()), source.count());
+        for (int index = 0; index < values.size(); index++) {
+            assertEquals(0, values.get(index).compareTo(source.valueAt(index)));
+            assertEquals(OptionalLong.of(index), source.indexOf(values.get(index)));
+        }
+        assertEquals(OptionalLong.empty(), source.indexOf(BigDecimal.valueOf(35)));
+        assertEquals(OptionalLong.empty(), source.indexOf(BigDecimal.valueOf(110)));
+    }
+
+    @Test
+    public void generateValuesBetween_withBlacklist_returnsTheValuesInTheRangeNotBlacklisted() {
+        LinearRestrictions<BigDecimal> restrictions = new LinearRestrictions<>(
+            BigDecimal.ZERO,
+            BigDecimal.valueOf(100),
+            new NumericGranularity(-1));
+        LinearFieldValueSource<BigDecimal> source = new LinearFieldValueSource<>(restrictions, Collections.singleton(BigDecimal.valueOf(40)));
+
+        List<BigDecimal> results = source.generateValuesBetween(2, 6).collect(Collectors.toList());
+
+        assertEquals(
+            Arrays.asList(20, 30, 50),
+            results.stream().map(BigDecimal::intValueExact).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void generateAllValues_withBlacklistedRuns_skipsOverThemInOrder() {
+        LinearRestrictions<BigDecimal> restrictions = new LinearRestrictions<>(
+            BigDecimal.ZERO,
+            BigDecimal.valueOf(9),
+            new NumericGranularity(0));
+        LinearFieldValueSource<BigDecimal> source = new LinearFieldValueSource<>(
+            restrictions,
+            new HashSet<>(Arrays.asList(
+                BigDecimal.ZERO,
+                BigDecimal.valueOf(3),
+                new BigDecimal("4.0"),
+                BigDecimal.valueOf(9),
+                BigDecimal.valueOf(100))));
+
+        List<BigDecimal> results = source.generateAllValues().collect(Collectors.toList());
+
+        List<BigDecimal> expected = Stream.of(1, 2, 5, 6, 7, 8).map(BigDecimal::valueOf).collect(Collectors.toList());
+        assertEquals(expected, results);
+    }
+}
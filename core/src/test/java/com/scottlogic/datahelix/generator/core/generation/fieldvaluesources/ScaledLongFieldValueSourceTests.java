@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.fieldvaluesources;
+
+import com.scottlogic.datahelix.generator.common.profile.NumericGranularity;
+import com.scottlogic.datahelix.generator.core.restrictions.linear.Limit;
+import com.scottlogic.datahelix.generator.core.restrictions.linear.LinearRestrictions;
+import com.scottlogic.datahelix.generator.core.utils.SplittableRandomNumberGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.scottlogic.datahelix.generator.core.restrictions.linear.LinearRestrictionsFactory.createNumericRestrictions;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScaledLongFieldValueSourceTests {
+    @Test
+    void create_withIntegerRange_isUsedForTheRestrictions() {
+        LinearRestrictions<BigDecimal> restrictions = restrictions("0", true, "100", true, 0);
+
+        assertTrue(restrictions.createFieldValueSource(Collections.emptySet()) instanceof ScaledLongFieldValueSource);
+    }
+
+    @Test
+    void create_withValuesTooPreciseForALong_isEmpty() {
+        LinearRestrictions<BigDecimal> restrictions = restrictions("0", true, "1", true, 20);
+
+        assertFalse(ScaledLongFieldValueSource.create(restrictions, Collections.emptySet()).isPresent());
+    }
+
+    @Test
+    void generateAllValues_withMoneyRange_returnsTheSameValuesAsTheLinearSource() {
+        expectSameValuesAsLinearSource(restrictions("0.5", true, "10", true, 2), blacklist("0.51", "9.999"));
+    }
+
+    @Test
+    void generateAllValues_withCoarseGranularity_returnsTheSameValuesAsTheLinearSource() {
+        expectSameValuesAsLinearSource(restrictions("0", true, "1000", true, -1), blacklist("20"));
+    }
+
+    @Test
+    void generateAllValues_withExclusiveBoundsAndTinyValues_returnsTheSameValuesAsTheLinearSource() {
+        expectSameValuesAsLinearSource(restrictions("-3E-20", false, "3E-20", false, 20), blacklist());
+    }
+
+    @Test
+    void generateAllValues_withNegativeScaleMin_returnsTheSameValuesAsTheLinearSource() {
+        expectSameValuesAsLinearSource(restrictions("-1E+3", true, "1E+3", true, 0), blacklist("-999", "7.5"));
+    }
+
+    private static void expectSameValuesAsLinearSource(LinearRestrictions<BigDecimal> restrictions, Set<BigDecimal> blacklist) {
+        ScaledLongFieldValueSource source = ScaledLongFieldValueSource.create(restrictions, blacklist).get();
+        LinearFieldValueSource<BigDecimal> linearSource = new LinearFieldValueSource<>(restrictions, blacklist);
+
+        assertEquals(
+            asStrings(linearSource.generateAllValues()),
+            asStrings(source.generateAllValues()));
+        assertEquals(
+            asStrings(linearSource.generateRandomValues(new SplittableRandomNumberGenerator(0)).limit(100)),
+            asStrings(source.generateRandomValues(new SplittableRandomNumberGenerator(0)).limit(100)));
+        assertEquals(
+            asStrings(linearSource.generateUniqueRandomValues(new SplittableRandomNumberGenerator(0))),
+            asStrings(source.generateUniqueRandomValues(new SplittableRandomNumberGenerator(0))));
+    }
+
+    // compares scales as well as values, as they show in the output
+    private static List<String> asStrings(Stream<BigDecimal> values) {
+        return values.map(BigDecimal::toString).collect(Collectors.toList());
+    }
+
+    private static LinearRestrictions<BigDecimal> restrictions(String min, boolean minInclusive, String max, boolean maxInclusive, int decimalPlaces) {
+        return createNumericRestrictions(
+            new Limit<>(new BigDecimal(min), minInclusive),
+            new Limit<>(new BigDecimal(max), maxInclusive),
+            new NumericGranularity(decimalPlaces));
+    }
+
+    private static Set<BigDecimal> blacklist(String... values) {
+        return Arrays.stream(values).map(BigDecimal::new).collect(Collectors.toSet());
+    }
+}
@@ -20,6 +20,7 @@ import com.scottlogic.datahelix.generator.core.config.detail.CombinationStrategy
 import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpec;
 import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecFactory;
 import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecGroup;
+import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecMerger;
 import com.scottlogic.datahelix.generator.core.generation.FieldSpecValueGenerator;
 import com.scottlogic.datahelix.generator.core.generation.databags.DataBag;
 import com.scottlogic.datahelix.generator.core.generation.databags.DataBagValue;
@@ -51,7 +52,7 @@ class FieldSpecGroupValueGeneratorTest {
         DataBagValue firstValue = new DataBagValue(result);
         when(underlyingGenerator.generate(any(Field.class), eq(firstSpec))).thenReturn(Stream.of(firstValue));
 
-        FieldSpecGroupValueGenerator generator = new FieldSpecGroupValueGenerator(underlyingGenerator, CombinationStrategyType.MINIMAL);
+        FieldSpecGroupValueGenerator generator = new FieldSpecGroupValueGenerator(underlyingGenerator, CombinationStrategyType.MINIMAL, new FieldSpecMerger());
 
         FieldSpecGroup group = new FieldSpecGroup(specMap, Collections.emptyList());
 
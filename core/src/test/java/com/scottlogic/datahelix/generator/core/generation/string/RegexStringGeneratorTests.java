@@ -149,6 +149,25 @@ class RegexStringGeneratorTests {
         //todo: more robust tests
     }
 
+    @Test
+    void complementOf_shouldMatchOnlyStringsTheRegexDoesNotMatch() {
+        StringGenerator complementedGenerator = RegexStringGenerator.complementOf("[a-m]", true);
+
+        assertFalse(complementedGenerator.matches("a"));
+        assertTrue(complementedGenerator.matches("z"));
+        assertTrue(complementedGenerator.matches("ab"));
+    }
+
+    @Test
+    void createGenerator_withEqualRestrictionsFromDifferentPatterns_shouldShareGenerator() {
+        StringGenerator first =
+            StringRestrictionsFactory.forStringMatching(Pattern.compile("[a-m]{2}"), false).createGenerator();
+        StringGenerator second =
+            StringRestrictionsFactory.forStringMatching(Pattern.compile("[a-m]{2}"), false).createGenerator();
+
+        assertSame(first, second);
+    }
+
     @Test
     void shouldReturnNoValuesWhenContradictingConstraints() {
         StringGenerator firstGenerator = new RegexStringGenerator("[b]{2}", true);
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.generation.string.factorys;
+
+import com.scottlogic.datahelix.generator.common.RandomNumberGenerator;
+import com.scottlogic.datahelix.generator.core.generation.string.AutomatonUtils;
+import com.scottlogic.datahelix.generator.core.generation.string.StringUtils;
+import com.scottlogic.datahelix.generator.core.utils.JavaUtilRandomNumberGenerator;
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomStringFactoryTests {
+    @Test
+    void createRandomString_withFixedSeed_returnsSameStringsAsWalkingTheAutomaton() {
+        List<String> regexes = Arrays.asList(
+            "[a-c]{0,3}x?",
+            "(foo|ba[rz])[0-9]{2}",
+            "[A-Z]{2}[0-9]{9}[0-9]",
+            "(a|bc|def)?[ -~]{0,5}");
+
+        for (String regex : regexes) {
+            Automaton automaton = AutomatonUtils.createAutomaton(regex, true);
+            RandomStringFactory factory = new RandomStringFactory(automaton);
+            for (long seed = 0; seed < 20; seed++) {
+                RandomNumberGenerator expectedRandom = new JavaUtilRandomNumberGenerator(seed);
+                RandomNumberGenerator actualRandom = new JavaUtilRandomNumberGenerator(seed);
+
+                for (int i = 0; i < 50; i++) {
+                    String expected = walkAutomaton(automaton.getInitialState(), expectedRandom);
+                    String actual = factory.createRandomString(actualRandom);
+
+                    assertEquals(expected, actual, "regex " + regex + ", seed " + seed + ", string " + i);
+                    assertTrue(automaton.run(actual));
+                }
+            }
+        }
+    }
+
+    @Test
+    void createRandomString_withAutomatonAcceptingOnlyEmptyString_returnsEmptyString() {
+        RandomStringFactory factory = new RandomStringFactory(Automaton.makeEmptyString());
+
+        assertEquals("", factory.createRandomString(new JavaUtilRandomNumberGenerator(0)));
+    }
+
+    @Test
+    void createRandomString_withAutomatonAcceptingEmptyString_canReturnEmptyString() {
+        RandomStringFactory factory = new RandomStringFactory(AutomatonUtils.createAutomaton("(ab)?", true));
+        RandomNumberGenerator random = new JavaUtilRandomNumberGenerator(0);
+
+        Set<String> results = IntStream.range(0, 100)
+            .mapToObj(i -> factory.createRandomString(random))
+            .collect(Collectors.toSet());
+
+        assertThat(results, containsInAnyOrder("", "ab"));
+    }
+
+    @Test
+    void createRandomString_longerThanInitialBuffer_returnsWholeString() {
+        Automaton automaton = AutomatonUtils.createAutomaton("[a-z]{150}", true);
+        RandomStringFactory factory = new RandomStringFactory(automaton);
+
+        String result = factory.createRandomString(new JavaUtilRandomNumberGenerator(0));
+
+        assertEquals(150, result.length());
+        assertTrue(automaton.run(result));
+    }
+
+    @Test
+    void createRandomString_fromSeveralThreads_returnsSameStringsAsOneThread() throws Exception {
+        RandomStringFactory factory = new RandomStringFactory(AutomatonUtils.createAutomaton("[a-z]{1,200}", true));
+        int threads = 8;
+
+        List<List<String>> expected = new ArrayList<>();
+        for (int seed = 0; seed < threads; seed++) {
+            expected.add(createStrings(factory, seed));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int seed = 0; seed < threads; seed++) {
+                long threadSeed = seed;
+                futures.add(executor.submit(() -> createStrings(factory, threadSeed)));
+            }
+
+            for (int seed = 0; seed < threads; seed++) {
+                assertEquals(expected.get(seed), futures.get(seed).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> createStrings(RandomStringFactory factory, long seed) {
+        RandomNumberGenerator random = new JavaUtilRandomNumberGenerator(seed);
+        return IntStream.range(0, 1000)
+            .mapToObj(i -> factory.createRandomString(random))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * The walk made before the automaton was compiled into tables, choosing from each state's sorted transitions
+     */
+    private static String walkAutomaton(State state, RandomNumberGenerator random) {
+        List<Integer> validIndices = new LinkedList<>();
+        StringBuilder builder = new StringBuilder();
+
+        if (state.isAccept()) {
+            validIndices.add(0);
+        }
+
+        for (int i = 1; !state.getTransitions().isEmpty(); i++) {
+            List<Transition> transitions = state.getSortedTransitions(false);
+            Transition transition = transitions.get(random.nextInt(transitions.size()));
+            char randomChar;
+            do {
+                int diff = transition.getMax() - transition.getMin() + 1;
+                randomChar = (char) (random.nextInt(diff) + transition.getMin());
+            } while (!StringUtils.isCharValidUtf8(randomChar));
+            builder.append(randomChar);
+            state = transition.getDest();
+            if (state.isAccept()) {
+                validIndices.add(i);
+            }
+        }
+
+        return builder.substring(0, validIndices.get(random.nextInt(validIndices.size())));
+    }
+}
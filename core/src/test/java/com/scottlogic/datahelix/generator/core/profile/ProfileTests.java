@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.profile;
+
+import com.scottlogic.datahelix.generator.core.profile.constraints.Constraint;
+import com.scottlogic.datahelix.generator.core.profile.relationships.Relationship;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.scottlogic.datahelix.generator.common.profile.FieldBuilder.createField;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ProfileTests {
+    @Test
+    void hasOneToManyRelationships_withOnlyOneToOneRelationships_returnsFalse() {
+        Profile profile = profile(relationship(profile(), false));
+
+        assertFalse(profile.hasOneToManyRelationships());
+    }
+
+    @Test
+    void hasOneToManyRelationships_withOneToManyRelationship_returnsTrue() {
+        Profile profile = profile(relationship(profile(), true));
+
+        assertTrue(profile.hasOneToManyRelationships());
+    }
+
+    @Test
+    void hasOneToManyRelationships_withOneToManyRelationshipOfARelatedProfile_returnsTrue() {
+        Profile profile = profile(relationship(profile(relationship(profile(), true)), false));
+
+        assertTrue(profile.hasOneToManyRelationships());
+    }
+
+    private static Profile profile(Relationship... relationships) {
+        return new Profile(
+            Collections.singletonList(createField("field")),
+            Collections.emptyList(),
+            Arrays.asList(relationships));
+    }
+
+    private static Relationship relationship(Profile profile, boolean oneToMany) {
+        return new Relationship(
+            "related",
+            null,
+            profile,
+            oneToMany ? Collections.singletonList(mock(Constraint.class)) : Collections.emptyList());
+    }
+}
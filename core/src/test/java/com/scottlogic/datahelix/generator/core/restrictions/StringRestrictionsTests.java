@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.restrictions;
+
+import com.scottlogic.datahelix.generator.core.restrictions.string.StringRestrictions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+class StringRestrictionsTests {
+    @Test
+    void equals_withSameFakerSpecAndDifferentRegexes_isFalse() {
+        StringRestrictions letters = matching(Pattern.compile("[a-z]+"), "name.firstName");
+        StringRestrictions digits = matching(Pattern.compile("[0-9]+"), "name.firstName");
+
+        assertThat(letters, not(equalTo(digits)));
+    }
+
+    @Test
+    void equals_withSameRegexesAndFakerSpec_isTrue() {
+        Pattern letters = Pattern.compile("[a-z]+");
+        StringRestrictions restrictions = matching(letters, "name.firstName");
+        StringRestrictions sameRestrictions = matching(letters, "name.firstName");
+
+        assertThat(restrictions, equalTo(sameRestrictions));
+    }
+
+    private static StringRestrictions matching(Pattern regex, String fakerSpec) {
+        return new StringRestrictions(
+            null,
+            null,
+            Collections.singleton(regex),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            Collections.emptySet(),
+            fakerSpec);
+    }
+}
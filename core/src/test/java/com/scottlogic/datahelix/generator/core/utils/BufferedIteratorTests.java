@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BufferedIteratorTests {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void next_withMoreValuesThanCapacity_returnsAllValuesInOrder() {
+        List<Integer> values = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+        List<Integer> result = drain(new BufferedIterator<>(values::iterator, executor, 7));
+
+        assertEquals(values, result);
+    }
+
+    @Test
+    void hasNext_withEmptySource_returnsFalse() {
+        BufferedIterator<Integer> iterator = new BufferedIterator<>(() -> new ArrayList<Integer>().iterator(), executor, 4);
+
+        assertFalse(iterator.hasNext());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void next_withManyIteratorsSharingFewerThreads_returnsAllValues() {
+        List<Integer> values = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        List<Iterator<Integer>> iterators = IntStream.range(0, 10)
+            .mapToObj(i -> new BufferedIterator<>(values::iterator, executor, 3))
+            .collect(Collectors.toList());
+
+        for (int i = 0; i < values.size(); i++) {
+            for (Iterator<Integer> iterator : iterators) {
+                assertEquals(values.get(i), iterator.next());
+            }
+        }
+        iterators.forEach(iterator -> assertFalse(iterator.hasNext()));
+    }
+
+    @Test
+    void next_whenSourceThrows_rethrowsOnConsumingThread() {
+        BufferedIterator<Integer> iterator = new BufferedIterator<>(
+            () -> IntStream.range(0, 5).mapToObj(i -> {
+                if (i == 3) throw new IllegalStateException("source failure");
+                return i;
+            }).iterator(),
+            executor,
+            2);
+
+        assertEquals(0, (int) iterator.next());
+        assertEquals(1, (int) iterator.next());
+        assertEquals(2, (int) iterator.next());
+        IllegalStateException exception = assertThrows(IllegalStateException.class, iterator::hasNext);
+        assertEquals("source failure", exception.getMessage());
+    }
+
+    @Test
+    void constructor_withZeroCapacity_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new BufferedIterator<>(() -> null, executor, 0));
+    }
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        List<T> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoCacheTests {
+    @Test
+    void get_withRepeatedKey_computesOnceAndCountsHit() {
+        MemoCache<String, Integer> cache = new MemoCache<>("test", 10);
+        AtomicInteger computations = new AtomicInteger();
+
+        Integer first = cache.get("key", computations::incrementAndGet);
+        Integer second = cache.get("key", computations::incrementAndGet);
+
+        assertEquals(1, first);
+        assertEquals(1, second);
+        assertEquals(1, computations.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void get_overCapacity_evictsOldestEntry() {
+        MemoCache<String, Integer> cache = new MemoCache<>("test", 2);
+
+        cache.get("first", () -> 1);
+        cache.get("second", () -> 2);
+        cache.get("third", () -> 3);
+        Integer recomputed = cache.get("first", () -> 4);
+        Integer retained = cache.get("third", () -> 5);
+
+        assertEquals(4, recomputed);
+        assertEquals(3, retained);
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    void describeTotals_ofSeveralCaches_sumsTheirCounts() {
+        MemoCache<String, Integer> first = new MemoCache<>("test", 1);
+        MemoCache<String, Integer> second = new MemoCache<>("test", 1);
+        first.get("key", () -> 1);
+        first.get("key", () -> 1);
+        second.get("key", () -> 1);
+        second.get("other", () -> 2);
+
+        assertEquals(
+            "test cache: 1 hits, 3 misses, 1 evictions",
+            MemoCache.describeTotals("test", Arrays.asList(first, second)));
+    }
+
+    @Test
+    void constructor_withZeroCapacity_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new MemoCache<String, Integer>("test", 0));
+    }
+}
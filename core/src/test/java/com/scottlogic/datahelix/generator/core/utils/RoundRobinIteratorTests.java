@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundRobinIteratorTests {
+    @Test
+    void next_withEqualLengthIterators_interleavesValues() {
+        RoundRobinIterator<Integer> iterator = new RoundRobinIterator<>(Arrays.asList(
+            Arrays.asList(1, 4).iterator(),
+            Arrays.asList(2, 5).iterator(),
+            Arrays.asList(3, 6).iterator()));
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), drain(iterator));
+    }
+
+    @Test
+    void next_withUnequalLengthIterators_continuesWithRemainingIterators() {
+        RoundRobinIterator<Integer> iterator = new RoundRobinIterator<>(Arrays.asList(
+            Arrays.asList(1, 3, 5, 6).iterator(),
+            Collections.<Integer>emptyIterator(),
+            Collections.singletonList(2).iterator()));
+
+        assertEquals(Arrays.asList(1, 2, 3, 5, 6), drain(iterator));
+    }
+
+    @Test
+    void hasNext_withNoIterators_returnsFalse() {
+        assertFalse(new RoundRobinIterator<>(Collections.emptyList()).hasNext());
+    }
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        List<T> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.core.utils;
+
+import com.scottlogic.datahelix.generator.common.SetUtils;
+import com.scottlogic.datahelix.generator.common.util.Defaults;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SplittableRandomNumberGeneratorTests {
+
+    SplittableRandomNumberGenerator random = new SplittableRandomNumberGenerator(0);
+
+    @Test
+    void nextInt_withSameSeed_givesSameValues() {
+        assertEquals(ints(new SplittableRandomNumberGenerator(42)), ints(new SplittableRandomNumberGenerator(42)));
+    }
+
+    @Test
+    void split_withSameSeed_givesSameStreams() {
+        SplittableRandomNumberGenerator first = new SplittableRandomNumberGenerator(42);
+        SplittableRandomNumberGenerator second = new SplittableRandomNumberGenerator(42);
+
+        assertEquals(ints(first.split()), ints(second.split()));
+        assertEquals(ints(first.split()), ints(second.split()));
+    }
+
+    @Test
+    void split_givesDifferentStreamsToEachChild() {
+        SplittableRandomNumberGenerator parent = new SplittableRandomNumberGenerator(42);
+
+        assertNotEquals(ints(parent.split()), ints(parent.split()));
+    }
+
+    @Test
+    void nextLong_withEqualBounds_returnsLowerBound() {
+        assertEquals(5L, random.nextLong(5, 5));
+    }
+
+    @Test
+    void nextLong_withRange_staysWithinRange() {
+        assertTrue(Stream.generate(() -> random.nextLong(-3, 3))
+            .limit(100)
+            .allMatch(x -> x >= -3 && x < 3));
+    }
+
+    @Test
+    void nextBigDecimal_withPositiveDifferentScales_work() {
+        BigDecimal lower = BigDecimal.valueOf(9);
+        BigDecimal upper = BigDecimal.valueOf(12);
+
+        Set<BigDecimal> expected = SetUtils.setOf(
+            BigDecimal.valueOf(9),
+            BigDecimal.valueOf(10),
+            BigDecimal.valueOf(11));
+
+        assertTrue(Stream.generate(() -> random.nextBigDecimal(lower, upper))
+            .limit(10)
+            .allMatch(expected::contains));
+    }
+
+    @Test
+    void nextBigDecimal_withNegativeDifferentScales_work() {
+        BigDecimal lower = new BigDecimal("0.08");
+        BigDecimal upper = new BigDecimal("0.1");
+
+        Set<BigDecimal> expected = SetUtils.setOf(lower, new BigDecimal("0.09"));
+
+        assertTrue(Stream.generate(() -> random.nextBigDecimal(lower, upper))
+            .limit(10)
+            .allMatch(expected::contains));
+    }
+
+    @Test
+    void nextBigDecimal_withLargeNumbers_givesValuesWithHighPrecision() {
+        BigDecimal lower = Defaults.NUMERIC_MIN.setScale(20);
+        BigDecimal upper = Defaults.NUMERIC_MAX.setScale(20);
+
+        List<BigDecimal> result = Stream.generate(() -> random.nextBigDecimal(lower, upper))
+            .limit(10)
+            .collect(Collectors.toList());
+
+        assertTrue(result.stream().allMatch(x -> lower.compareTo(x) <= 0 && upper.compareTo(x) > 0));
+        assertTrue(result.stream()
+            .map(BigDecimal::toPlainString)
+            .map(x -> x.substring(x.length() - 4))
+            .noneMatch("0000"::equals));
+    }
+
+    private static List<Integer> ints(SplittableRandomNumberGenerator random) {
+        return IntStream.range(0, 10).map(i -> random.nextInt()).boxed().collect(Collectors.toList());
+    }
+}
@@ -25,9 +25,11 @@ import com.scottlogic.datahelix.generator.core.fieldspecs.*;
 import com.scottlogic.datahelix.generator.common.whitelist.DistributedList;
 import com.scottlogic.datahelix.generator.core.reducer.ConstraintReducer;
 import com.scottlogic.datahelix.generator.core.walker.pruner.TreePruner;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -111,4 +113,68 @@ class RowSpecTreeSolverTests {
 
         assertThat(rowSpecs, sameBeanAs(expectedRowSpecs));
     }
+
+    @Test
+    void createRandomRowSpecSupplier_whenAnOptionIsContradictory_returnsRowSpecOfTheOtherOption() {
+        //Arrange
+        ConstraintNode root = TestConstraintNodeBuilder.constraintNode()
+            .where(fieldB).isNull()
+            .withDecision(
+                TestConstraintNodeBuilder.constraintNode()
+                    .where(fieldB).isNotNull(),
+                TestConstraintNodeBuilder.constraintNode()
+                    .where(fieldA).isNull())
+            .build();
+        DecisionTree tree = new DecisionTree(root, fields);
+
+        //Act
+        Optional<RowSpec> rowSpec = rowSpecTreeSolver.createRandomRowSpecSupplier(tree).get();
+
+        //Assert
+        Map<Field, FieldSpec> fieldToFieldSpec = new HashMap<>();
+        fieldToFieldSpec.put(fieldA, FieldSpecFactory.nullOnly());
+        fieldToFieldSpec.put(fieldB, FieldSpecFactory.nullOnly());
+        assertThat(rowSpec.get(), sameBeanAs(new RowSpec(fields, fieldToFieldSpec, Collections.emptyList())));
+    }
+
+    @Test
+    void createRandomRowSpecSupplier_whenEveryOptionIsContradictory_returnsEmpty() {
+        //Arrange
+        ConstraintNode root = TestConstraintNodeBuilder.constraintNode()
+            .where(fieldB).isNull()
+            .withDecision(
+                TestConstraintNodeBuilder.constraintNode()
+                    .where(fieldB).isNotNull(),
+                TestConstraintNodeBuilder.constraintNode()
+                    .where(fieldA).isSelfContradictory())
+            .build();
+        DecisionTree tree = new DecisionTree(root, fields);
+
+        //Act
+        Optional<RowSpec> rowSpec = rowSpecTreeSolver.createRandomRowSpecSupplier(tree).get();
+
+        //Assert
+        Assertions.assertFalse(rowSpec.isPresent());
+    }
+
+    @Test
+    void createRandomRowSpecSupplier_whenTheSameOptionsArePicked_returnsTheAlreadySolvedRowSpec() {
+        //Arrange
+        ConstraintNode root = TestConstraintNodeBuilder.constraintNode()
+            .withDecision(
+                TestConstraintNodeBuilder.constraintNode()
+                    .where(fieldB).isNull(),
+                TestConstraintNodeBuilder.constraintNode()
+                    .where(fieldB).isInSet("1", "2", "3"))
+            .build();
+        DecisionTree tree = new DecisionTree(root, fields);
+        Supplier<Optional<RowSpec>> rowSpecSupplier = rowSpecTreeSolver.createRandomRowSpecSupplier(tree);
+
+        //Act
+        RowSpec first = rowSpecSupplier.get().get();
+        RowSpec second = rowSpecSupplier.get().get();
+
+        //Assert
+        Assertions.assertSame(first, second);
+    }
 }
@@ -27,6 +27,7 @@ import com.scottlogic.datahelix.generator.orchestrator.CommonOptionInfo;
 import com.scottlogic.datahelix.generator.orchestrator.guice.AllConfigSource;
 import com.scottlogic.datahelix.generator.orchestrator.guice.AllModule;
 import com.scottlogic.datahelix.generator.common.output.OutputFormat;
+import com.scottlogic.datahelix.generator.output.compression.OutputCompression;
 import com.scottlogic.datahelix.generator.profile.ProfileConfiguration;
 import picocli.CommandLine;
 
@@ -123,6 +124,28 @@ public class GenerateCommandLine implements AllConfigSource, Callable<Integer> {
         description = "Permits infinite generation of data")
     private boolean infiniteGeneration = false;
 
+    @SuppressWarnings("FieldCanBeLocal")
+    @CommandLine.Option(
+        names = {"--threads"},
+        description = "Number of independent generators to run concurrently, each producing a share of the rows")
+    private int threads = 1;
+
+    @CommandLine.Option(
+        names = {"--seed"},
+        description = "The seed for random generation. Runs with the same seed and number of threads produce the same data")
+    private Long seed = null;
+
+    @CommandLine.Option(
+        names = {"--shuffle-unique-values"},
+        description = "In random generation, output the values of unique fields in a random order rather than ascending")
+    private boolean shuffleUniqueValues = false;
+
+    @SuppressWarnings("FieldCanBeLocal")
+    @CommandLine.Option(
+        names = {"--partition-threads"},
+        description = "Number of threads used to walk independent partitions of the profile concurrently")
+    private int partitionThreads = 1;
+
     @SuppressWarnings("FieldCanBeLocal")
     @CommandLine.Option(
         names = {"--quiet"},
@@ -140,6 +163,47 @@ public class GenerateCommandLine implements AllConfigSource, Callable<Integer> {
         description = "Output format (${COMPLETION-CANDIDATES})")
     private OutputFormat outputFormat = CSV;
 
+    @SuppressWarnings("FieldCanBeLocal")
+    @CommandLine.Option(
+        names = {"--output-queue-size"},
+        description = "Number of generated rows that can wait to be written, while generation carries on. 0 writes each row as it is generated")
+    private int outputQueueSize = 1024;
+
+    @SuppressWarnings("FieldCanBeLocal")
+    @CommandLine.Option(
+        names = {"--output-compression"},
+        description = "Compression applied to the output (${COMPLETION-CANDIDATES})")
+    private OutputCompression outputCompression = OutputCompression.NONE;
+
+    @SuppressWarnings("FieldCanBeLocal")
+    @CommandLine.Option(
+        names = {"--compression-threads"},
+        description = "Number of threads used to compress the output")
+    private int compressionThreads = Runtime.getRuntime().availableProcessors();
+
+    @SuppressWarnings("FieldCanBeLocal")
+    @CommandLine.Option(
+        names = {"--max-rows-per-file"},
+        description = "Splits the output across numbered files, starting a new file after this many rows")
+    private Long maxRowsPerFile = null;
+
+    @SuppressWarnings("FieldCanBeLocal")
+    @CommandLine.Option(
+        names = {"--max-bytes-per-file"},
+        description = "Splits the output across numbered files, starting a new file once a file reaches this many bytes")
+    private Long maxBytesPerFile = null;
+
+    @SuppressWarnings("FieldCanBeLocal")
+    @CommandLine.Option(
+        names = {"--file-writer-threads"},
+        description = "Number of threads used to write split output files concurrently")
+    private int fileWriterThreads = 1;
+
+    @CommandLine.Option(
+        names = {"--parquet-row-group-size"},
+        description = "The number of bytes of rows to buffer before writing each row group, when the output format is PARQUET")
+    private long parquetRowGroupSize = 128L * 1024 * 1024;
+
     @SuppressWarnings("FieldCanBeLocal")
     @CommandLine.Option(
         names = {"--set-from-file-directory"},
@@ -177,6 +241,41 @@ public class GenerateCommandLine implements AllConfigSource, Callable<Integer> {
         return outputPath;
     }
 
+    @Override
+    public OutputCompression getOutputCompression() {
+        return outputCompression;
+    }
+
+    @Override
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    @Override
+    public Long getMaxRowsPerFile() {
+        return maxRowsPerFile;
+    }
+
+    @Override
+    public Long getMaxBytesPerFile() {
+        return maxBytesPerFile;
+    }
+
+    @Override
+    public int getFileWriterThreads() {
+        return fileWriterThreads;
+    }
+
+    @Override
+    public long getParquetRowGroupSize() {
+        return parquetRowGroupSize;
+    }
+
+    @Override
+    public int getOutputQueueSize() {
+        return outputQueueSize;
+    }
+
     @Override
     public DataGenerationType getGenerationType() {
         return generationType;
@@ -208,6 +307,26 @@ public class GenerateCommandLine implements AllConfigSource, Callable<Integer> {
         return infiniteGeneration;
     }
 
+    @Override
+    public int getPartitionThreads() {
+        return partitionThreads;
+    }
+
+    @Override
+    public int getThreads() {
+        return threads;
+    }
+
+    @Override
+    public Long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean getShuffleUniqueValues() {
+        return shuffleUniqueValues;
+    }
+
     public OutputFormat getOutputFormat() {
         return outputFormat;
     }
@@ -18,11 +18,14 @@ package com.scottlogic.datahelix.generator.orchestrator.generate;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import com.scottlogic.datahelix.generator.common.ValidationException;
 import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.core.config.detail.MonitorType;
 import com.scottlogic.datahelix.generator.core.generation.DataGenerator;
 import com.scottlogic.datahelix.generator.core.generation.DataGeneratorMonitor;
 import com.scottlogic.datahelix.generator.core.profile.Profile;
 import com.scottlogic.datahelix.generator.output.outputtarget.SingleDatasetOutputTarget;
+import com.scottlogic.datahelix.generator.output.writer.AsyncDataSetWriter;
 import com.scottlogic.datahelix.generator.output.writer.DataSetWriter;
 import com.scottlogic.datahelix.generator.profile.reader.ProfileReader;
 
@@ -35,7 +38,9 @@ public class GenerateExecute {
     private final ProfileReader profileReader;
     private final DataGenerator dataGenerator;
     private final DataGeneratorMonitor monitor;
+    private final MonitorType monitorType;
     private final File profileFile;
+    private final int outputQueueSize;
 
     @Inject
     GenerateExecute(
@@ -43,12 +48,16 @@ public class GenerateExecute {
         SingleDatasetOutputTarget singleDatasetOutputTarget,
         ProfileReader profileReader,
         DataGeneratorMonitor monitor,
-        @Named("config:profileFile") File profileFile) {
+        MonitorType monitorType,
+        @Named("config:profileFile") File profileFile,
+        @Named("config:outputQueueSize") int outputQueueSize) {
         this.dataGenerator = dataGenerator;
         this.singleDatasetOutputTarget = singleDatasetOutputTarget;
         this.profileReader = profileReader;
         this.monitor = monitor;
+        this.monitorType = monitorType;
         this.profileFile = profileFile;
+        this.outputQueueSize = outputQueueSize;
     }
 
     public void execute() throws IOException {
@@ -60,8 +69,14 @@ public class GenerateExecute {
 
     private void outputData(Profile profile, Stream<GeneratedObject> generatedDataItems) throws IOException {
         singleDatasetOutputTarget.validate();
+        if (profile.hasOneToManyRelationships() && singleDatasetOutputTarget.writesRowsOnOtherThreads()) {
+            throw new ValidationException(
+                "--max-rows-per-file and --max-bytes-per-file cannot be used with one-to-many relationships, as " +
+                    "their sub-objects are generated as they are written and must be written on the generating thread");
+        }
 
-        try (DataSetWriter writer = singleDatasetOutputTarget.openWriter(profile.getFields())) {
+        DataSetWriter writer = openWriter(profile);
+        try {
             generatedDataItems.forEach(row -> {
                 try {
                     writer.writeRow(row);
@@ -69,7 +84,29 @@ public class GenerateExecute {
                     throw new RuntimeException(e);
                 }
             });
+        } finally {
+            writer.close();
+        }
+
+        if (writer instanceof AsyncDataSetWriter && monitorType != MonitorType.QUIET) {
+            monitor.addLineToPrintAtEndOfGeneration(writer.toString());
         }
         monitor.endGeneration();
     }
+
+    /**
+     * Opens the writer for the output target, writing on a thread of its own behind a queue of rows unless the
+     * queue size is 0, in which case rows are written as they are generated. Rows with one-to-many sub-objects are
+     * always written as they are generated, as the sub-objects are only generated as they are written.
+     */
+    private DataSetWriter openWriter(Profile profile) throws IOException {
+        DataSetWriter writer = singleDatasetOutputTarget.openWriter(profile.getFields());
+        if (outputQueueSize <= 0 || profile.hasOneToManyRelationships()) {
+            return writer;
+        }
+
+        AsyncDataSetWriter asyncWriter = new AsyncDataSetWriter(writer, outputQueueSize);
+        monitor.addQueueToReportAtEndOfGeneration("Output queue", asyncWriter::getQueueDepth, outputQueueSize);
+        return asyncWriter;
+    }
 }
\ No newline at end of file
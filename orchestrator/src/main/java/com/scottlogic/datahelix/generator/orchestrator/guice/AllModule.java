@@ -17,6 +17,9 @@
 package com.scottlogic.datahelix.generator.orchestrator.guice;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.util.Modules;
+import com.scottlogic.datahelix.generator.core.generation.DataGenerator;
 import com.scottlogic.datahelix.generator.core.guice.GeneratorModule;
 import com.scottlogic.datahelix.generator.output.guice.OutputModule;
 import com.scottlogic.datahelix.generator.profile.guice.ProfileModule;
@@ -33,7 +36,17 @@ public class AllModule extends AbstractModule {
         bind(AllConfigSource.class).toInstance(configSource);
 
         install(new ProfileModule(configSource));
-        install(new GeneratorModule(configSource));
+        install(getGeneratorModule());
         install(new OutputModule(configSource));
     }
+
+    private Module getGeneratorModule() {
+        Module generatorModule = new GeneratorModule(configSource);
+        if (configSource.getThreads() <= 1) {
+            return generatorModule;
+        }
+
+        return Modules.override(generatorModule)
+            .with(binder -> binder.bind(DataGenerator.class).toProvider(ShardedDataGeneratorProvider.class));
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.orchestrator.guice;
+
+import com.scottlogic.datahelix.generator.common.output.OutputFormat;
+import com.scottlogic.datahelix.generator.core.config.detail.CombinationStrategyType;
+import com.scottlogic.datahelix.generator.core.config.detail.DataGenerationType;
+import com.scottlogic.datahelix.generator.core.config.detail.MonitorType;
+import com.scottlogic.datahelix.generator.core.config.detail.VisualiserLevel;
+import com.scottlogic.datahelix.generator.output.compression.OutputCompression;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * The configuration of one shard of a multi-threaded run: the user's configuration with its own seed, its share of
+ * the rows and a single thread.
+ */
+class ShardConfigSource implements AllConfigSource {
+    private final AllConfigSource underlying;
+    private final long seed;
+    private final Long maxRows;
+    private final boolean primaryShard;
+
+    ShardConfigSource(AllConfigSource underlying, long seed, Long maxRows, boolean primaryShard) {
+        this.underlying = underlying;
+        this.seed = seed;
+        this.maxRows = maxRows;
+        this.primaryShard = primaryShard;
+    }
+
+    @Override
+    public DataGenerationType getGenerationType() {
+        return underlying.getGenerationType();
+    }
+
+    @Override
+    public CombinationStrategyType getCombinationStrategyType() {
+        return underlying.getCombinationStrategyType();
+    }
+
+    @Override
+    public Long getMaxRows() {
+        return maxRows;
+    }
+
+    @Override
+    public boolean getInfiniteOutput() {
+        return underlying.getInfiniteOutput();
+    }
+
+    @Override
+    public int getPartitionThreads() {
+        return underlying.getPartitionThreads();
+    }
+
+    @Override
+    public int getThreads() {
+        return 1;
+    }
+
+    @Override
+    public Long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean getShuffleUniqueValues() {
+        return underlying.getShuffleUniqueValues();
+    }
+
+    @Override
+    public MonitorType getMonitorType() {
+        return MonitorType.QUIET;
+    }
+
+    @Override
+    public VisualiserLevel getVisualiserLevel() {
+        // every shard would produce the same trees, so only the first writes them out
+        return primaryShard ? underlying.getVisualiserLevel() : VisualiserLevel.OFF;
+    }
+
+    @Override
+    public Path getVisualiserOutputFolder() {
+        return underlying.getVisualiserOutputFolder();
+    }
+
+    @Override
+    public File getProfileFile() {
+        return underlying.getProfileFile();
+    }
+
+    @Override
+    public String fromFilePath() {
+        return underlying.fromFilePath();
+    }
+
+    @Override
+    public OutputFormat getOutputFormat() {
+        return underlying.getOutputFormat();
+    }
+
+    @Override
+    public Path getOutputPath() {
+        return underlying.getOutputPath();
+    }
+
+    @Override
+    public boolean overwriteOutputFiles() {
+        return underlying.overwriteOutputFiles();
+    }
+
+    @Override
+    public boolean useStdOut() {
+        return underlying.useStdOut();
+    }
+
+    @Override
+    public OutputCompression getOutputCompression() {
+        return underlying.getOutputCompression();
+    }
+
+    @Override
+    public int getCompressionThreads() {
+        return underlying.getCompressionThreads();
+    }
+
+    @Override
+    public Long getMaxRowsPerFile() {
+        return underlying.getMaxRowsPerFile();
+    }
+
+    @Override
+    public Long getMaxBytesPerFile() {
+        return underlying.getMaxBytesPerFile();
+    }
+
+    @Override
+    public int getFileWriterThreads() {
+        return underlying.getFileWriterThreads();
+    }
+
+    @Override
+    public long getParquetRowGroupSize() {
+        return underlying.getParquetRowGroupSize();
+    }
+
+    @Override
+    public int getOutputQueueSize() {
+        return underlying.getOutputQueueSize();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.orchestrator.guice;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+import com.google.inject.util.Modules;
+import com.scottlogic.datahelix.generator.core.config.detail.MonitorType;
+import com.scottlogic.datahelix.generator.core.fieldspecs.FieldSpecMerger;
+import com.scottlogic.datahelix.generator.core.generation.*;
+import com.scottlogic.datahelix.generator.core.reducer.ConstraintReducer;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds an independent generator for each thread, each from its own injector so that no state is shared between
+ * them. Shard seeds are drawn in order from the run's seed and rows are split as evenly as possible, so a given seed
+ * and thread count always produces the same output.
+ */
+public class ShardedDataGeneratorProvider implements Provider<DataGenerator> {
+    private static final int SHARD_BUFFER_SIZE = 1024;
+
+    private final AllConfigSource configSource;
+    private final Long maxRows;
+    private final long seed;
+    private final MonitorType monitorType;
+    private final AbstractDataGeneratorMonitor monitor;
+
+    @Inject
+    public ShardedDataGeneratorProvider(
+        AllConfigSource configSource,
+        @Nullable @Named("config:maxRows") Long maxRows,
+        @Named("config:seed") long seed,
+        MonitorType monitorType,
+        AbstractDataGeneratorMonitor monitor) {
+        this.configSource = configSource;
+        this.maxRows = maxRows;
+        this.seed = seed;
+        this.monitorType = monitorType;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public DataGenerator get() {
+        int threads = configSource.getThreads();
+        Random shardSeeds = new Random(seed);
+        List<DataGenerator> shards = new ArrayList<>();
+        for (int shard = 0; shard < threads; shard++) {
+            AllConfigSource shardConfig = new ShardConfigSource(
+                configSource,
+                shardSeeds.nextLong(),
+                getShareOfRows(shard, threads),
+                shard == 0);
+
+            // only the first shard reports to the user, so that messages about the profile aren't repeated
+            AbstractDataGeneratorMonitor shardMonitor = shard == 0 ? monitor : new NoopDataGeneratorMonitor();
+            Injector shardInjector = Guice.createInjector(
+                Modules.override(new AllModule(shardConfig))
+                    .with(binder -> binder.bind(AbstractDataGeneratorMonitor.class).toInstance(shardMonitor)));
+            shards.add(shardInjector.getInstance(DataGenerator.class));
+
+            // shards are quiet, so their caches are reported here, summed across the shards
+            if (monitorType != MonitorType.QUIET) {
+                monitor.addCacheToReportAtEndOfGeneration(shardInjector.getInstance(ConstraintReducer.class).getCache());
+                monitor.addCacheToReportAtEndOfGeneration(shardInjector.getInstance(FieldSpecMerger.class).getCache());
+            }
+        }
+
+        DataGenerator shardedGenerator = new ShardedDataGenerator(
+            shards,
+            configSource.getGenerationType(),
+            SHARD_BUFFER_SIZE);
+        if (monitorType == MonitorType.QUIET) {
+            return shardedGenerator;
+        }
+
+        return new MonitoringDataGenerator(shardedGenerator, monitor);
+    }
+
+    private Long getShareOfRows(int shard, int threads) {
+        if (maxRows == null) {
+            return null;
+        }
+
+        return maxRows / threads + (shard < maxRows % threads ? 1 : 0);
+    }
+}
@@ -23,6 +23,7 @@ import com.scottlogic.datahelix.generator.core.config.detail.MonitorType;
 import com.scottlogic.datahelix.generator.core.config.detail.VisualiserLevel;
 import com.scottlogic.datahelix.generator.orchestrator.guice.AllConfigSource;
 import com.scottlogic.datahelix.generator.common.output.OutputFormat;
+import com.scottlogic.datahelix.generator.output.compression.OutputCompression;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -45,6 +46,26 @@ public class CucumberGenerationConfigSource implements AllConfigSource {
         return state.combinationStrategyType;
     }
 
+    @Override
+    public int getPartitionThreads() {
+        return 1;
+    }
+
+    @Override
+    public int getThreads() {
+        return 1;
+    }
+
+    @Override
+    public Long getSeed() {
+        return null;
+    }
+
+    @Override
+    public boolean getShuffleUniqueValues() {
+        return false;
+    }
+
     @Override
     public MonitorType getMonitorType() {
         return MonitorType.QUIET;
@@ -80,6 +101,41 @@ public class CucumberGenerationConfigSource implements AllConfigSource {
         return false;
     }
 
+    @Override
+    public OutputCompression getOutputCompression() {
+        return OutputCompression.NONE;
+    }
+
+    @Override
+    public int getCompressionThreads() {
+        return 1;
+    }
+
+    @Override
+    public Long getMaxRowsPerFile() {
+        return null;
+    }
+
+    @Override
+    public Long getMaxBytesPerFile() {
+        return null;
+    }
+
+    @Override
+    public int getFileWriterThreads() {
+        return 1;
+    }
+
+    @Override
+    public long getParquetRowGroupSize() {
+        return 128L * 1024 * 1024;
+    }
+
+    @Override
+    public int getOutputQueueSize() {
+        return 1024;
+    }
+
     @Override
     public OutputFormat getOutputFormat() {
         return OutputFormat.JSON;
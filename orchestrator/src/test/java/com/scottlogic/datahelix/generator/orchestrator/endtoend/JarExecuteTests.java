@@ -22,6 +22,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -96,6 +97,19 @@ public class JarExecuteTests {
             p);
     }
 
+    @Test
+    void generateOneToManyRelationalData_withOutputQueue_givesSameSeededDataAsWritingInline() throws Exception {
+        String profile = "-p=src/test/java/com/scottlogic/datahelix/generator/orchestrator/relational/profile-referenced-relationship.json";
+
+        List<String> inline = collectOutputAndCloseProcess(
+            setupSeededProcess(profile, "--output-queue-size=0"));
+        List<String> queued = collectOutputAndCloseProcess(
+            setupSeededProcess(profile));
+
+        assertThat(inline.size(), is(greaterThanOrEqualTo(200)));
+        assertEquals(inline, queued);
+    }
+
     private void assertCsvOutputs(List<String> outputs, String expectedFinalMessage, String extraErrorMessage, Process process) {
         String commandLine = commandLineMap.get(process);
 
@@ -153,6 +167,25 @@ public class JarExecuteTests {
         return process;
     }
 
+    private Process setupSeededProcess(final String profile, final String... options) throws IOException {
+        ProcessBuilder pb = new ProcessBuilder(
+            "java",
+            "-jar",
+            "build/libs/datahelix.jar",
+            profile,
+            "--max-rows=200",
+            "--seed=42",
+            "--output-format=JSON",
+            "--quiet");
+        pb.command().addAll(Arrays.asList(options));
+
+        pb.redirectErrorStream(true);
+        Process process = pb.start();
+        commandLineMap.put(process, String.join(" ", pb.command()));
+
+        return process;
+    }
+
     private List<String> collectOutputAndCloseProcess(Process process) throws IOException, InterruptedException {
         BufferedReader BufferedStdOutReader = new BufferedReader(new InputStreamReader(process.getInputStream()));
         List<String> collectedOutput = new ArrayList<>();
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.compression;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** Wraps output streams so that whatever is written to them is compressed as configured */
+public class OutputStreamCompressor {
+    private final OutputCompression compression;
+    private final int threads;
+
+    @Inject
+    public OutputStreamCompressor(
+        OutputCompression compression,
+        @Named("config:compressionThreads") int threads) {
+        this.compression = compression;
+        this.threads = threads;
+    }
+
+    public OutputStream compress(OutputStream stream) throws IOException {
+        switch (compression) {
+            case GZIP:
+                return new ParallelGzipOutputStream(stream, threads);
+            default:
+                return stream;
+        }
+    }
+}
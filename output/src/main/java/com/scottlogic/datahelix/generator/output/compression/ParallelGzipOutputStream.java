@@ -0,0 +1,240 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.compression;
+
+import com.scottlogic.datahelix.generator.common.util.DaemonThreadFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.*;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a gzip stream, compressing on a pool of threads in the same way as pigz. Data is cut into blocks and each
+ * block is deflated on its own, primed with the end of the block before so that little compression is lost, and the
+ * compressed blocks are written out in order by a single writer thread, which also keeps the checksum. All that is
+ * left on the calling thread is copying data into blocks.
+ *
+ * As with GZIPOutputStream, flushing only flushes data that has already been compressed; a partly filled block is
+ * held back until it fills or the stream is closed. Flushing never waits: the flush is queued on the writer thread
+ * behind the blocks already submitted, so that writers which flush after every row (as the JSON writer does) still
+ * keep several blocks compressing at once. Only one flush is queued for each block submitted.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+    private static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int BLOCKS_IN_FLIGHT_PER_THREAD = 2;
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    private final OutputStream out;
+    private final ExecutorService compressors;
+    private final ExecutorService writer;
+    private final Semaphore blocksInFlight;
+    private final CRC32 crc = new CRC32();
+    private long uncompressedLength;
+    private volatile IOException failure;
+
+    private byte[] block = new byte[BLOCK_SIZE];
+    private int blockLength;
+    private byte[] previousBlock;
+    private Future<?> lastWrite;
+    private boolean flushQueued;
+    private boolean closed;
+
+    public ParallelGzipOutputStream(OutputStream out, int threads) throws IOException {
+        this.out = out;
+        this.compressors = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("gzip-compressor"));
+        this.writer = Executors.newSingleThreadExecutor(new DaemonThreadFactory("gzip-writer"));
+        this.blocksInFlight = new Semaphore(threads * BLOCKS_IN_FLIGHT_PER_THREAD);
+
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (blockLength == BLOCK_SIZE) {
+            submitBlock(false);
+        }
+        block[blockLength++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (blockLength == BLOCK_SIZE) {
+                submitBlock(false);
+            }
+
+            int copied = Math.min(len, BLOCK_SIZE - blockLength);
+            System.arraycopy(b, off, block, blockLength, copied);
+            blockLength += copied;
+            off += copied;
+            len -= copied;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        throwIfFailed();
+        if (flushQueued) {
+            return;
+        }
+
+        flushQueued = true;
+        writer.execute(this::flushCompressed);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            submitBlock(true);
+            waitFor(lastWrite);
+            throwIfFailed();
+        } finally {
+            compressors.shutdownNow();
+            writer.shutdownNow();
+            out.close();
+        }
+    }
+
+    private void submitBlock(boolean last) throws IOException {
+        throwIfFailed();
+        try {
+            blocksInFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing");
+        }
+
+        byte[] input = block;
+        int length = blockLength;
+        byte[] dictionary = previousBlock;
+        Future<byte[]> compressed = compressors.submit(() -> deflate(input, length, dictionary, last));
+        lastWrite = writer.submit(() -> {
+            try {
+                writeCompressed(compressed, input, length, last);
+            } finally {
+                blocksInFlight.release();
+            }
+        });
+
+        previousBlock = input;
+        block = new byte[BLOCK_SIZE];
+        blockLength = 0;
+        flushQueued = false;
+    }
+
+    private void flushCompressed() {
+        if (failure != null) {
+            return;
+        }
+
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void writeCompressed(Future<byte[]> compressed, byte[] input, int length, boolean last) {
+        if (failure != null) {
+            return;
+        }
+
+        try {
+            out.write(waitFor(compressed));
+            crc.update(input, 0, length);
+            uncompressedLength += length;
+
+            if (last) {
+                writeTrailer();
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void writeTrailer() throws IOException {
+        writeLittleEndianInt((int) crc.getValue());
+        writeLittleEndianInt((int) uncompressedLength);
+    }
+
+    private void writeLittleEndianInt(int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private void throwIfFailed() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static byte[] deflate(byte[] input, int length, byte[] dictionary, boolean last) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary, dictionary.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+            }
+            deflater.setInput(input, 0, length);
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buffer = new byte[DICTIONARY_SIZE];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compressed.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                // a sync flush ends the block on a byte boundary, so the next block can follow straight on
+                int deflated;
+                do {
+                    deflated = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, deflated);
+                } while (deflated == buffer.length);
+            }
+
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static <T> T waitFor(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Unable to compress output", e.getCause());
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.scottlogic.datahelix.generator.output.guice;
 
 import com.scottlogic.datahelix.generator.common.output.OutputFormat;
+import com.scottlogic.datahelix.generator.output.compression.OutputCompression;
 
 import java.nio.file.Path;
 
@@ -25,4 +26,11 @@ public interface OutputConfigSource {
     Path getOutputPath();
     boolean overwriteOutputFiles();
     boolean useStdOut();
+    OutputCompression getOutputCompression();
+    int getCompressionThreads();
+    Long getMaxRowsPerFile();
+    Long getMaxBytesPerFile();
+    int getFileWriterThreads();
+    long getParquetRowGroupSize();
+    int getOutputQueueSize();
 }
@@ -21,6 +21,7 @@ import com.google.inject.name.Names;
 import com.google.inject.util.Providers;
 import com.scottlogic.datahelix.generator.common.output.OutputFormat;
 import com.scottlogic.datahelix.generator.output.OutputPath;
+import com.scottlogic.datahelix.generator.output.compression.OutputCompression;
 import com.scottlogic.datahelix.generator.output.outputtarget.SingleDatasetOutputTarget;
 import com.scottlogic.datahelix.generator.output.writer.OutputWriterFactory;
 
@@ -48,6 +49,33 @@ public class OutputModule extends AbstractModule {
             .annotatedWith(Names.named("config:streamOutput"))
             .toInstance(outputConfigSource.useStdOut());
 
+        bind(OutputCompression.class)
+            .toInstance(outputConfigSource.getOutputCompression());
+
+        bind(int.class)
+            .annotatedWith(Names.named("config:compressionThreads"))
+            .toInstance(outputConfigSource.getCompressionThreads());
+
+        bind(Long.class)
+            .annotatedWith(Names.named("config:maxRowsPerFile"))
+            .toProvider(Providers.of(outputConfigSource.getMaxRowsPerFile()));
+
+        bind(Long.class)
+            .annotatedWith(Names.named("config:maxBytesPerFile"))
+            .toProvider(Providers.of(outputConfigSource.getMaxBytesPerFile()));
+
+        bind(int.class)
+            .annotatedWith(Names.named("config:fileWriterThreads"))
+            .toInstance(outputConfigSource.getFileWriterThreads());
+
+        bind(long.class)
+            .annotatedWith(Names.named("config:parquetRowGroupSize"))
+            .toInstance(outputConfigSource.getParquetRowGroupSize());
+
+        bind(int.class)
+            .annotatedWith(Names.named("config:outputQueueSize"))
+            .toInstance(outputConfigSource.getOutputQueueSize());
+
         bind(OutputFormat.class)
             .toProvider(Providers.of(outputConfigSource.getOutputFormat()));
     }
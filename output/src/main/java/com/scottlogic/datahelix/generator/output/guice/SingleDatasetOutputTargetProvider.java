@@ -19,21 +19,25 @@ package com.scottlogic.datahelix.generator.output.guice;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.scottlogic.datahelix.generator.output.outputtarget.FileOutputTarget;
+import com.scottlogic.datahelix.generator.output.outputtarget.RollingFileOutputTarget;
 import com.scottlogic.datahelix.generator.output.outputtarget.SingleDatasetOutputTarget;
 import com.scottlogic.datahelix.generator.output.outputtarget.StdoutOutputTarget;
 
 public class SingleDatasetOutputTargetProvider implements Provider<SingleDatasetOutputTarget> {
     private final OutputConfigSource outputConfigSource;
     private final FileOutputTarget fileOutputTarget;
+    private final RollingFileOutputTarget rollingFileOutputTarget;
     private final StdoutOutputTarget stdoutOutputTarget;
 
     @Inject
     SingleDatasetOutputTargetProvider(
         OutputConfigSource outputConfigSource,
         FileOutputTarget fileOutputTarget,
+        RollingFileOutputTarget rollingFileOutputTarget,
         StdoutOutputTarget stdoutOutputTarget){
         this.outputConfigSource = outputConfigSource;
         this.fileOutputTarget = fileOutputTarget;
+        this.rollingFileOutputTarget = rollingFileOutputTarget;
         this.stdoutOutputTarget = stdoutOutputTarget;
     }
 
@@ -42,6 +46,9 @@ public class SingleDatasetOutputTargetProvider implements Provider<SingleDataset
         if (outputConfigSource.useStdOut()){
             return stdoutOutputTarget;
         }
+        if (outputConfigSource.getMaxRowsPerFile() != null || outputConfigSource.getMaxBytesPerFile() != null) {
+            return rollingFileOutputTarget;
+        }
         return fileOutputTarget;
     }
 }
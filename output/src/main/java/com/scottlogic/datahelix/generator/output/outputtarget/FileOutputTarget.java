@@ -21,6 +21,7 @@ import com.google.inject.name.Named;
 import com.scottlogic.datahelix.generator.common.profile.Fields;
 import com.scottlogic.datahelix.generator.common.util.FileUtils;
 import com.scottlogic.datahelix.generator.output.OutputPath;
+import com.scottlogic.datahelix.generator.output.compression.OutputStreamCompressor;
 import com.scottlogic.datahelix.generator.output.writer.DataSetWriter;
 import com.scottlogic.datahelix.generator.output.writer.OutputWriterFactory;
 
@@ -34,25 +35,29 @@ public class FileOutputTarget implements SingleDatasetOutputTarget {
     private final boolean canOverwriteExistingFiles;
     private final OutputWriterFactory outputWriterFactory;
     private final FileUtils fileUtils;
+    private final OutputStreamCompressor outputStreamCompressor;
 
     @Inject
     public FileOutputTarget(
         OutputPath outputPath,
         OutputWriterFactory outputWriterFactory,
-        @Named("config:canOverwriteOutputFiles") boolean canOverwriteOutputFiles, FileUtils fileUtils) {
+        @Named("config:canOverwriteOutputFiles") boolean canOverwriteOutputFiles, FileUtils fileUtils,
+        OutputStreamCompressor outputStreamCompressor) {
         this.canOverwriteExistingFiles = canOverwriteOutputFiles;
         this.outputWriterFactory = outputWriterFactory;
         this.fileUtils = fileUtils;
+        this.outputStreamCompressor = outputStreamCompressor;
         this.filePath = outputPath.getPath();
     }
 
     @Override
     public DataSetWriter openWriter(Fields fields) throws IOException {
-        final OutputStream stream = new FileOutputStream(
+        OutputStream stream = new FileOutputStream(
             this.filePath.toFile(),
             false);
 
         try {
+            stream = outputStreamCompressor.compress(stream);
             return outputWriterFactory.createWriter(stream, fields);
         } catch (Exception e) {
             stream.close();
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.outputtarget;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Fields;
+import com.scottlogic.datahelix.generator.common.util.DaemonThreadFactory;
+import com.scottlogic.datahelix.generator.output.compression.OutputStreamCompressor;
+import com.scottlogic.datahelix.generator.output.writer.DataSetWriter;
+import com.scottlogic.datahelix.generator.output.writer.OutputWriterFactory;
+
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+
+/**
+ * Splits rows across a series of files. Each file is written by its own task on a pool of writer threads, fed through
+ * a bounded queue, so that formatting and writing one file overlaps with generating the rows of the next.
+ *
+ * The next file is begun once the current one has been given the maximum number of rows, or once the bytes written to
+ * it reach the maximum. Bytes are only counted as they reach the file, so a file can overrun its size by the rows still
+ * queued for it. Formats which hold back large parts of the data set, such as Parquet's row groups, can't be split by
+ * size, and RollingFileOutputTarget refuses them.
+ */
+class RollingDataSetWriter implements DataSetWriter {
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final Fields fields;
+    private final OutputWriterFactory outputWriterFactory;
+    private final OutputStreamCompressor outputStreamCompressor;
+    private final IntFunction<Path> filePaths;
+    private final long maxRowsPerFile;
+    private final long maxBytesPerFile;
+    private final ExecutorService executor;
+    private final List<FileTask> files = new ArrayList<>();
+    private FileTask currentFile;
+    private long rowsInCurrentFile;
+
+    RollingDataSetWriter(
+        Fields fields,
+        OutputWriterFactory outputWriterFactory,
+        OutputStreamCompressor outputStreamCompressor,
+        IntFunction<Path> filePaths,
+        long maxRowsPerFile,
+        long maxBytesPerFile,
+        int writerThreads) {
+        this.fields = fields;
+        this.outputWriterFactory = outputWriterFactory;
+        this.outputStreamCompressor = outputStreamCompressor;
+        this.filePaths = filePaths;
+        this.maxRowsPerFile = maxRowsPerFile;
+        this.maxBytesPerFile = maxBytesPerFile;
+        this.executor = Executors.newFixedThreadPool(writerThreads, new DaemonThreadFactory("file-writer"));
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        if (currentFile == null
+            || rowsInCurrentFile >= maxRowsPerFile
+            || currentFile.getBytesWritten() >= maxBytesPerFile) {
+            startNextFile();
+        }
+
+        currentFile.add(row);
+        rowsInCurrentFile++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // an empty data set is still written, as a single file with no rows
+            if (currentFile == null) {
+                startNextFile();
+            }
+            currentFile.finish();
+
+            for (FileTask file : files) {
+                file.waitUntilWritten();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void startNextFile() throws IOException {
+        if (currentFile != null) {
+            currentFile.finish();
+            currentFile.throwIfFailed();
+        }
+
+        currentFile = new FileTask(filePaths.apply(files.size() + 1));
+        currentFile.future = executor.submit(currentFile);
+        files.add(currentFile);
+        rowsInCurrentFile = 0;
+    }
+
+    private class FileTask implements Callable<Void> {
+        private final Path path;
+        private final BlockingQueue<GeneratedObject> rows = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private volatile boolean finished;
+        private volatile long bytesWritten;
+        private Future<Void> future;
+
+        private FileTask(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public Void call() throws IOException, InterruptedException {
+            try (OutputStream stream = outputStreamCompressor.compress(
+                    new CountingOutputStream(new FileOutputStream(path.toFile(), false)));
+                 DataSetWriter writer = outputWriterFactory.createWriter(stream, fields)) {
+                while (true) {
+                    GeneratedObject row = rows.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (row != null) {
+                        writer.writeRow(row);
+                    } else if (finished && rows.isEmpty()) {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        void add(GeneratedObject row) throws IOException {
+            try {
+                while (!rows.offer(row, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    throwIfFailed();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while writing " + path);
+            }
+        }
+
+        void finish() {
+            finished = true;
+        }
+
+        void throwIfFailed() throws IOException {
+            if (future.isDone()) {
+                waitUntilWritten();
+            }
+        }
+
+        void waitUntilWritten() throws IOException {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while writing " + path);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IOException("Unable to write " + path, e.getCause());
+            }
+        }
+
+        private class CountingOutputStream extends FilterOutputStream {
+            private CountingOutputStream(OutputStream stream) {
+                super(stream);
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                bytesWritten++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                bytesWritten += len;
+            }
+        }
+    }
+}
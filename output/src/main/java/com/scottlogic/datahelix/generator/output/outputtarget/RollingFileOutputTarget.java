@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.outputtarget;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.scottlogic.datahelix.generator.common.profile.Fields;
+import com.scottlogic.datahelix.generator.common.util.FileUtils;
+import com.scottlogic.datahelix.generator.output.OutputPath;
+import com.scottlogic.datahelix.generator.output.compression.OutputStreamCompressor;
+import com.scottlogic.datahelix.generator.output.writer.DataSetWriter;
+import com.scottlogic.datahelix.generator.output.writer.OutputWriterFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes the data set across a series of files, starting the next file once the current one holds a given number of
+ * rows or bytes. Files are named after the output path, numbered before the extension, so that out.csv is written as
+ * out-00001.csv, out-00002.csv and so on (and out.csv.gz as out-00001.csv.gz). Each file is written in full by the output format, headers and all.
+ *
+ * Any numbered files already there, whether from a run of the same length or a longer one, are refused unless existing
+ * files may be overwritten, in which case they are all deleted before writing, so that none are left over.
+ */
+public class RollingFileOutputTarget implements SingleDatasetOutputTarget {
+    private static final String GZIP_EXTENSION = ".gz";
+
+    private final Path filePath;
+    private final String fileNamePrefix;
+    private final String fileNameSuffix;
+    private final boolean canOverwriteExistingFiles;
+    private final OutputWriterFactory outputWriterFactory;
+    private final FileUtils fileUtils;
+    private final OutputStreamCompressor outputStreamCompressor;
+    private final long maxRowsPerFile;
+    private final long maxBytesPerFile;
+    private final int writerThreads;
+
+    @Inject
+    public RollingFileOutputTarget(
+        OutputPath outputPath,
+        OutputWriterFactory outputWriterFactory,
+        @Named("config:canOverwriteOutputFiles") boolean canOverwriteOutputFiles,
+        FileUtils fileUtils,
+        OutputStreamCompressor outputStreamCompressor,
+        @Nullable @Named("config:maxRowsPerFile") Long maxRowsPerFile,
+        @Nullable @Named("config:maxBytesPerFile") Long maxBytesPerFile,
+        @Named("config:fileWriterThreads") int writerThreads) {
+        this.filePath = outputPath.getPath();
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = getExtensionStart(fileName);
+        this.fileNamePrefix = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        this.fileNameSuffix = extensionStart > 0 ? fileName.substring(extensionStart) : "";
+        this.canOverwriteExistingFiles = canOverwriteOutputFiles;
+        this.outputWriterFactory = outputWriterFactory;
+        this.fileUtils = fileUtils;
+        this.outputStreamCompressor = outputStreamCompressor;
+        this.maxRowsPerFile = maxRowsPerFile == null ? Long.MAX_VALUE : maxRowsPerFile;
+        this.maxBytesPerFile = maxBytesPerFile == null ? Long.MAX_VALUE : maxBytesPerFile;
+        this.writerThreads = writerThreads;
+    }
+
+    @Override
+    public DataSetWriter openWriter(Fields fields) {
+        return new RollingDataSetWriter(
+            fields,
+            outputWriterFactory,
+            outputStreamCompressor,
+            this::getFilePath,
+            maxRowsPerFile,
+            maxBytesPerFile,
+            writerThreads);
+    }
+
+    @Override
+    public boolean writesRowsOnOtherThreads() {
+        return true;
+    }
+
+    @Override
+    public void validate() throws OutputTargetValidationException, IOException {
+        if (maxRowsPerFile < 1 || maxBytesPerFile < 1) {
+            throw new OutputTargetValidationException(
+                "the maximum rows and bytes per file must be at least 1"
+            );
+        }
+        if (maxBytesPerFile != Long.MAX_VALUE && !outputWriterFactory.writesRowsAsTheyAreGiven()) {
+            throw new OutputTargetValidationException(
+                "--max-bytes-per-file cannot be used with PARQUET output, as each row group is held in memory until " +
+                    "it is complete; please use --max-rows-per-file instead"
+            );
+        }
+
+        Path firstFilePath = getFilePath(1);
+        if (fileUtils.isDirectory(firstFilePath)) {
+            throw new OutputTargetValidationException(
+                "target is a directory; please use a different output filename"
+            );
+        }
+
+        List<Path> existingFiles = findNumberedFiles();
+        if (!existingFiles.isEmpty() && !canOverwriteExistingFiles) {
+            throw new OutputTargetValidationException(
+                "file " + existingFiles.get(0).getFileName() + " already exists; please use a different output filename or use the --replace option"
+            );
+        }
+        for (Path existingFile : existingFiles) {
+            Files.delete(existingFile);
+        }
+
+        if (!fileUtils.exists(firstFilePath)) {
+            Path parent = firstFilePath.toAbsolutePath().getParent();
+            if (!fileUtils.createDirectories(parent)) {
+                throw new OutputTargetValidationException(
+                    "parent directory of output file already exists but is not a directory; please use a different output filename"
+                );
+            }
+        }
+    }
+
+    Path getFilePath(int fileNumber) {
+        return filePath.resolveSibling(String.format("%s-%05d%s", fileNamePrefix, fileNumber, fileNameSuffix));
+    }
+
+    private List<Path> findNumberedFiles() throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (!fileUtils.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+
+        Pattern numberedFileName = Pattern.compile(
+            Pattern.quote(fileNamePrefix + "-") + "[0-9]{5,}" + Pattern.quote(fileNameSuffix));
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> numberedFileName.matcher(file.getFileName().toString()).matches())
+                .filter(file -> !Files.isDirectory(file))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static int getExtensionStart(String fileName) {
+        int extensionStart = fileName.lastIndexOf('.');
+        if (fileName.endsWith(GZIP_EXTENSION) && extensionStart > 0) {
+            int formatExtensionStart = fileName.lastIndexOf('.', extensionStart - 1);
+            if (formatExtensionStart > 0) {
+                extensionStart = formatExtensionStart;
+            }
+        }
+        return extensionStart;
+    }
+}
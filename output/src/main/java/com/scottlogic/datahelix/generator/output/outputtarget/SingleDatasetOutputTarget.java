@@ -24,4 +24,11 @@ import java.io.IOException;
 public interface SingleDatasetOutputTarget {
     DataSetWriter openWriter(Fields fields) throws IOException;
     default void validate() throws OutputTargetValidationException, IOException {}
+
+    /**
+     * Whether the writers of this target write rows on threads other than the one that hands them over
+     */
+    default boolean writesRowsOnOtherThreads() {
+        return false;
+    }
 }
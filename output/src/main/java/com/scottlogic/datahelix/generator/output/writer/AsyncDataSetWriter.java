@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.writer;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.util.DaemonThreadFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Hands rows to another writer, which formats and writes them on a thread of its own, through a bounded queue, so that
+ * generation carries on while earlier rows are written. When the queue is full, generation waits for the writer to
+ * catch up. How often and how long each side waited for the other is kept, to show which of them held the run back.
+ */
+public class AsyncDataSetWriter implements DataSetWriter {
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final int DRAIN_BATCH_SIZE = 256;
+
+    private final DataSetWriter writer;
+    private final int capacity;
+    private final BlockingQueue<GeneratedObject> rows;
+    private final ExecutorService executor;
+    private final Future<Void> written;
+    private volatile boolean finished;
+    private volatile long writerIdleNanos;
+    private long stalls;
+    private long stalledNanos;
+
+    public AsyncDataSetWriter(DataSetWriter writer, int capacity) {
+        this.writer = writer;
+        this.capacity = capacity;
+        this.rows = new ArrayBlockingQueue<>(capacity);
+        this.executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("output-writer"));
+        this.written = executor.submit(this::writeQueuedRows);
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        if (rows.offer(row)) {
+            return;
+        }
+
+        stalls++;
+        long stallStarted = System.nanoTime();
+        try {
+            while (!rows.offer(row, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (written.isDone()) {
+                    waitUntilWritten();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to write a row");
+        } finally {
+            stalledNanos += System.nanoTime() - stallStarted;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        try {
+            waitUntilWritten();
+        } finally {
+            executor.shutdownNow();
+            writer.close();
+        }
+    }
+
+    /** The number of rows waiting to be written */
+    public int getQueueDepth() {
+        return rows.size();
+    }
+
+    /** The number of times that generation found the queue full, and so had to wait for the writer */
+    public long getStalls() {
+        return stalls;
+    }
+
+    /** The total time that generation spent waiting for space in the queue */
+    public long getStalledNanos() {
+        return stalledNanos;
+    }
+
+    /** The total time that the writer spent waiting for rows to be generated */
+    public long getWriterIdleNanos() {
+        return writerIdleNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "Output queue of %d rows: generation waited for the writer %d times, for %d ms in total; the writer waited for rows for %d ms",
+            capacity,
+            stalls,
+            TimeUnit.NANOSECONDS.toMillis(stalledNanos),
+            TimeUnit.NANOSECONDS.toMillis(writerIdleNanos));
+    }
+
+    private Void writeQueuedRows() throws IOException, InterruptedException {
+        List<GeneratedObject> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (true) {
+            if (rows.drainTo(batch, DRAIN_BATCH_SIZE) > 0) {
+                for (GeneratedObject row : batch) {
+                    writer.writeRow(row);
+                }
+                batch.clear();
+                continue;
+            }
+
+            long idleStarted = System.nanoTime();
+            GeneratedObject row = rows.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            writerIdleNanos += System.nanoTime() - idleStarted;
+
+            if (row != null) {
+                writer.writeRow(row);
+            } else if (finished && rows.isEmpty()) {
+                return null;
+            }
+        }
+    }
+
+    private void waitUntilWritten() throws IOException {
+        try {
+            written.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for rows to be written");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException("Unable to write rows", e.getCause());
+        }
+    }
+}
@@ -29,4 +29,12 @@ public interface OutputWriterFactory {
         Fields fields) throws IOException;
 
     Optional<String> getFileExtensionWithoutDot();
+
+    /**
+     * Whether writers write each row to their stream as it is given to them, give or take a small buffer, rather than
+     * holding back large parts of the data set. Output split by size relies on this to see how large each file is.
+     */
+    default boolean writesRowsAsTheyAreGiven() {
+        return true;
+    }
 }
@@ -17,12 +17,14 @@
 package com.scottlogic.datahelix.generator.output.writer.csv;
 
 import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
 import com.scottlogic.datahelix.generator.common.profile.Fields;
 import com.scottlogic.datahelix.generator.output.writer.DataSetWriter;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.QuoteMode;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -30,22 +32,31 @@ import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Writes rows through a large buffer. The buffer is written out whenever it fills, and flushed when a row is written
+ * at least a second after the last flush, so that slow generation is still seen promptly, and on close.
+ */
 class CsvDataSetWriter implements DataSetWriter {
     private static final DateTimeFormatter standardDateFormat = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
     private static final CSVFormat writerFormat = CSVFormat.RFC4180;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
 
     private final CSVPrinter csvPrinter;
-    private final Fields fieldOrder;
+    private final Field[] fieldOrder;
+    private long lastFlushNanos = System.nanoTime();
 
     private CsvDataSetWriter(CSVPrinter csvPrinter, Fields fieldOrder) {
         this.csvPrinter = csvPrinter;
-        this.fieldOrder = fieldOrder;
+        this.fieldOrder = fieldOrder.getExternalStream().toArray(Field[]::new);
     }
 
     static DataSetWriter open(OutputStream stream, Fields fields) throws IOException {
-        final Appendable outputStreamAsAppendable = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+        final Appendable outputStreamAsAppendable = new BufferedWriter(
+            new OutputStreamWriter(stream, StandardCharsets.UTF_8),
+            BUFFER_SIZE);
 
         CSVPrinter csvPrinter = writerFormat
             .withQuoteMode(QuoteMode.MINIMAL)
@@ -59,12 +70,16 @@ class CsvDataSetWriter implements DataSetWriter {
 
     @Override
     public void writeRow(GeneratedObject row) throws IOException {
-        csvPrinter.printRecord(fieldOrder.getExternalStream()
-                .map(row::getFormattedValue)
-                .map(CsvDataSetWriter::applyTypeSpecificFormatting)
-                .collect(Collectors.toList()));
+        for (Field field : fieldOrder) {
+            csvPrinter.print(applyTypeSpecificFormatting(row.getFormattedValue(field)));
+        }
+        csvPrinter.println();
 
-        csvPrinter.flush();
+        long now = System.nanoTime();
+        if (now - lastFlushNanos >= FLUSH_INTERVAL_NANOS) {
+            csvPrinter.flush();
+            lastFlushNanos = now;
+        }
     }
 
     @Override
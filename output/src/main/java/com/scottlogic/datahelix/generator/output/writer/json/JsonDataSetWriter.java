@@ -16,7 +16,7 @@
 
 package com.scottlogic.datahelix.generator.output.writer.json;
 
-import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
 import com.scottlogic.datahelix.generator.common.output.RelationalGeneratedObject;
 import com.scottlogic.datahelix.generator.common.output.SubGeneratedObject;
@@ -28,97 +28,98 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Writes each row straight to the JSON generator, field by field. Related sub-objects are pulled from their data
+ * stream one at a time as they are written, so no more than one of them is held in memory at once. That stream draws
+ * on the parent row's generator, so rows with one-to-many sub-objects are written on the thread that generated them.
+ */
 class JsonDataSetWriter implements DataSetWriter {
     private static final DateTimeFormatter standardDateFormat = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
-    private final SequenceWriter writer;
+    private final JsonGenerator generator;
     private final List<Field> fields;
 
-    JsonDataSetWriter(SequenceWriter writer, Fields fields) {
-        this.writer = writer;
+    JsonDataSetWriter(JsonGenerator generator, Fields fields) {
+        this.generator = generator;
         this.fields = fields.getExternalStream().collect(Collectors.toList());
     }
 
-    private JsonDataSetWriter(List<Field> fields) {
-        this.fields = fields;
-        this.writer = null;
-    }
-
     @Override
     public void writeRow(GeneratedObject row) throws IOException {
-        Map<Field, Object> jsonObject = convertRow(row);
+        writeObject(fields, row);
 
-        writer.write(jsonObject);
+        generator.flush();
     }
 
-    private Map<Field, Object> convertRow(GeneratedObject row) {
-        Map<Field, Object> jsonObject = new HashMap<>();
+    private void writeObject(List<Field> fields, GeneratedObject row) throws IOException {
+        generator.writeStartObject();
 
-        fields
-            .forEach(field ->
-                jsonObject.put(field, convertValue(row.getFormattedValue(field))));
+        for (Field field : fields) {
+            generator.writeFieldName(field.getName());
+            writeValue(row.getFormattedValue(field));
+        }
 
         if (row instanceof RelationalGeneratedObject) {
-            writeRelatedObjects(jsonObject, (RelationalGeneratedObject)row);
+            writeRelatedObjects((RelationalGeneratedObject) row);
         }
 
-        return jsonObject;
+        generator.writeEndObject();
     }
 
-    private void writeRelatedObjects(Map<Field, Object> jsonObject, RelationalGeneratedObject relationalGeneratedObject) {
-        relationalGeneratedObject.getSubObjects()
-            .forEach((key, value) -> writeRelatedObject(jsonObject, key, value));
+    private void writeRelatedObjects(RelationalGeneratedObject relationalGeneratedObject) throws IOException {
+        for (Map.Entry<String, SubGeneratedObject> subObject : relationalGeneratedObject.getSubObjects().entrySet()) {
+            generator.writeFieldName(subObject.getKey());
+            writeRelatedObject(subObject.getValue());
+        }
     }
 
-    private void writeRelatedObject(Map<Field, Object> jsonObject, String key, SubGeneratedObject value) {
-        JsonDataSetWriter subWriter = new JsonDataSetWriter(value.getFields());
-        Field fieldForRelationship = new Field(key, null, false, null, false, true, null);
+    private void writeRelatedObject(SubGeneratedObject value) throws IOException {
+        List<Field> subFields = value.getFields();
 
-        if (value.isArray()) {
-            writeRelatedArray(jsonObject, value, subWriter, fieldForRelationship);
-        } else {
-            writeRelatedObject(jsonObject, value, subWriter, fieldForRelationship);
-        }
-    }
+        try (Stream<GeneratedObject> data = value.getData()) {
+            Iterator<GeneratedObject> subObjects = data.iterator();
 
-    private void writeRelatedObject(Map<Field, Object> jsonObject, SubGeneratedObject value, JsonDataSetWriter subWriter, Field fieldForRelationship) {
-        GeneratedObject singleSubObject = value.getData().get(0);
-        Map<Field, Object> subObject = subWriter.convertRow(singleSubObject);
-        jsonObject.put(fieldForRelationship, subObject);
-    }
+            if (!value.isArray()) {
+                writeObject(subFields, subObjects.next());
+                return;
+            }
 
-    private void writeRelatedArray(Map<Field, Object> jsonObject, SubGeneratedObject value, JsonDataSetWriter subWriter, Field fieldForRelationship) {
-        List<Map<Field, Object>> subObjectsForRelationship = value.getData()
-            .stream()
-            .map(subWriter::convertRow)
-            .collect(Collectors.toList());
-        jsonObject.put(fieldForRelationship, subObjectsForRelationship);
+            generator.writeStartArray();
+            while (subObjects.hasNext()) {
+                writeObject(subFields, subObjects.next());
+            }
+            generator.writeEndArray();
+        }
     }
 
     @Override
     public void close() throws IOException {
-        writer.close();
-    }
+        if (generator.getOutputContext().inArray()) {
+            generator.writeEndArray();
+        }
 
+        generator.close();
+    }
 
-    private static Object convertValue(Object value) {
+    private void writeValue(Object value) throws IOException {
         if (value == null) {
-            return null;
+            generator.writeNull();
         } else if (value instanceof BigDecimal) {
-            return value;
+            generator.writeNumber((BigDecimal) value);
         } else if (value instanceof Integer) {
-            return value;
+            generator.writeNumber((Integer) value);
         } else if (value instanceof String) {
-            return value;
+            generator.writeString((String) value);
         } else if (value instanceof OffsetDateTime) {
-            return standardDateFormat.format((OffsetDateTime) value);
+            generator.writeString(standardDateFormat.format((OffsetDateTime) value));
         } else {
-            return value.toString();
+            generator.writeString(value.toString());
         }
     }
 }
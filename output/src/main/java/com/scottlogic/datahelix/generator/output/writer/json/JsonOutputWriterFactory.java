@@ -16,12 +16,11 @@
 
 package com.scottlogic.datahelix.generator.output.writer.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.PrettyPrinter;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.SequenceWriter;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.scottlogic.datahelix.generator.common.profile.Fields;
@@ -46,11 +45,13 @@ public class JsonOutputWriterFactory implements OutputWriterFactory {
         PrettyPrinter prettyPrinter = streamOutput
             ? new MinimalPrettyPrinter(NEW_LINE_DELIMITER)
             : new DefaultPrettyPrinter();
-        ObjectWriter objectWriter = new ObjectMapper().writer(prettyPrinter);
-        SequenceWriter writer = objectWriter.writeValues(stream);
-        writer.init(!streamOutput);
+        JsonGenerator generator = new ObjectMapper().getFactory().createGenerator(stream);
+        generator.setPrettyPrinter(prettyPrinter);
+        if (!streamOutput) {
+            generator.writeStartArray();
+        }
 
-        return new JsonDataSetWriter(writer, fields);
+        return new JsonDataSetWriter(generator, fields);
     }
 
     @Override
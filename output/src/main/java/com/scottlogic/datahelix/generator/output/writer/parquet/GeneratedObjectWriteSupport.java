@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.writer.parquet;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** Hands the values of each row to Parquet, one column at a time, leaving out any that are null. */
+class GeneratedObjectWriteSupport extends WriteSupport<GeneratedObject> {
+    private static final String SCHEMA_NAME = "datahelix";
+
+    private final ParquetColumn[] columns;
+    private final MessageType schema;
+    private RecordConsumer recordConsumer;
+
+    GeneratedObjectWriteSupport(List<ParquetColumn> columns) {
+        this.columns = columns.toArray(new ParquetColumn[0]);
+        this.schema = new MessageType(
+            SCHEMA_NAME,
+            columns.stream().map(ParquetColumn::getType).collect(Collectors.<Type>toList()));
+    }
+
+    @Override
+    public WriteContext init(Configuration configuration) {
+        return new WriteContext(schema, Collections.emptyMap());
+    }
+
+    @Override
+    public void prepareForWrite(RecordConsumer recordConsumer) {
+        this.recordConsumer = recordConsumer;
+    }
+
+    @Override
+    public void write(GeneratedObject row) {
+        recordConsumer.startMessage();
+
+        for (int index = 0; index < columns.length; index++) {
+            ParquetColumn column = columns[index];
+            Object value = column.getValue(row);
+            if (value == null) {
+                continue;
+            }
+
+            recordConsumer.startField(column.getName(), index);
+            column.write(recordConsumer, value);
+            recordConsumer.endField(column.getName(), index);
+        }
+
+        recordConsumer.endMessage();
+    }
+}
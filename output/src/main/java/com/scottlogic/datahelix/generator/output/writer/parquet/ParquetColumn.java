@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.writer.parquet;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.common.profile.StandardSpecificFieldType;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import static org.apache.parquet.schema.LogicalTypeAnnotation.TimeUnit.MILLIS;
+
+/**
+ * The Parquet column for a field, and how to write the field's values to it.
+ *
+ * Fields that keep the default formatting of their type are written as typed values: integers as DECIMAL(38, 0),
+ * datetimes as UTC timestamps, dates as dates, times as times of day and booleans as booleans. The integer range of a
+ * profile can be far wider than an INT64 can hold, hence a decimal.
+ *
+ * Decimals are written as their formatted strings, as CSV and JSON write them. A DECIMAL column needs one scale for
+ * every value, and a field's values can have as many decimal places as its granularity allows (20 by default) and as
+ * many integer digits as its range allows, which together are more than 38 digits. The field alone doesn't say which
+ * a profile allows, so a fixed scale would round some values.
+ *
+ * Any other field, including any field with custom formatting, is written as its formatted string.
+ */
+class ParquetColumn {
+    private static final int DECIMAL_PRECISION = 38;
+    private static final int DECIMAL_LENGTH_IN_BYTES = 16;
+    private static final int INTEGER_SCALE = 0;
+
+    private final Field field;
+    private final Type type;
+    private final boolean formatted;
+    private final BiConsumer<RecordConsumer, Object> writer;
+
+    private ParquetColumn(Field field, Type type, boolean formatted, BiConsumer<RecordConsumer, Object> writer) {
+        this.field = field;
+        this.type = type;
+        this.formatted = formatted;
+        this.writer = writer;
+    }
+
+    static ParquetColumn compile(Field field) {
+        if (!hasDefaultFormatting(field)) {
+            return stringColumn(field);
+        }
+
+        switch (field.getType()) {
+            case NUMERIC:
+                if (!isOfType(field, StandardSpecificFieldType.INTEGER)) {
+                    return stringColumn(field);
+                }
+                return new ParquetColumn(
+                    field,
+                    Types.optional(PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY)
+                        .length(DECIMAL_LENGTH_IN_BYTES)
+                        .as(LogicalTypeAnnotation.decimalType(INTEGER_SCALE, DECIMAL_PRECISION))
+                        .named(field.getName()),
+                    false,
+                    (consumer, value) -> consumer.addBinary(toDecimal(field, value, INTEGER_SCALE)));
+            case DATETIME:
+                if (isOfType(field, StandardSpecificFieldType.DATE)) {
+                    return new ParquetColumn(
+                        field,
+                        Types.optional(PrimitiveTypeName.INT32)
+                            .as(LogicalTypeAnnotation.dateType())
+                            .named(field.getName()),
+                        false,
+                        (consumer, value) -> consumer.addInteger(
+                            (int) ((OffsetDateTime) value).toLocalDate().toEpochDay()));
+                }
+                return new ParquetColumn(
+                    field,
+                    Types.optional(PrimitiveTypeName.INT64)
+                        .as(LogicalTypeAnnotation.timestampType(true, MILLIS))
+                        .named(field.getName()),
+                    false,
+                    (consumer, value) -> consumer.addLong(((OffsetDateTime) value).toInstant().toEpochMilli()));
+            case TIME:
+                return new ParquetColumn(
+                    field,
+                    Types.optional(PrimitiveTypeName.INT32)
+                        .as(LogicalTypeAnnotation.timeType(false, MILLIS))
+                        .named(field.getName()),
+                    false,
+                    (consumer, value) -> consumer.addInteger((int) (((LocalTime) value).toNanoOfDay() / 1_000_000)));
+            case BOOLEAN:
+                return new ParquetColumn(
+                    field,
+                    Types.optional(PrimitiveTypeName.BOOLEAN).named(field.getName()),
+                    false,
+                    (consumer, value) -> consumer.addBoolean((Boolean) value));
+            default:
+                return stringColumn(field);
+        }
+    }
+
+    String getName() {
+        return field.getName();
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    Object getValue(GeneratedObject row) {
+        return formatted
+            ? row.getFormattedValue(field)
+            : row.getValue(field);
+    }
+
+    void write(RecordConsumer consumer, Object value) {
+        writer.accept(consumer, value);
+    }
+
+    private static ParquetColumn stringColumn(Field field) {
+        return new ParquetColumn(
+            field,
+            Types.optional(PrimitiveTypeName.BINARY)
+                .as(LogicalTypeAnnotation.stringType())
+                .named(field.getName()),
+            true,
+            (consumer, value) -> consumer.addBinary(Binary.fromString(value.toString())));
+    }
+
+    private static boolean hasDefaultFormatting(Field field) {
+        return field.getFormatting() == null
+            || Objects.equals(field.getFormatting(), field.getSpecificType().getFormatting());
+    }
+
+    private static boolean isOfType(Field field, StandardSpecificFieldType type) {
+        return type.getType().equals(field.getSpecificType().getType());
+    }
+
+    /**
+     * The unscaled value as a 16 byte, big-endian two's complement integer, as Parquet expects of a DECIMAL(38). Values
+     * are never rounded: one that can't be written exactly at the column's scale and precision is an error.
+     */
+    private static Binary toDecimal(Field field, Object value, int scale) {
+        BigDecimal decimal = value instanceof BigDecimal
+            ? (BigDecimal) value
+            : new BigDecimal(value.toString());
+        BigDecimal scaled;
+        try {
+            scaled = decimal.setScale(scale, RoundingMode.UNNECESSARY);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(String.format(
+                "Value %s of field %s has more than %d decimal places and cannot be written to Parquet without rounding",
+                decimal.toPlainString(),
+                field.getName(),
+                scale));
+        }
+        if (scaled.precision() > DECIMAL_PRECISION) {
+            throw new IllegalArgumentException(String.format(
+                "Value %s of field %s has more than %d digits and cannot be written to Parquet",
+                decimal.toPlainString(),
+                field.getName(),
+                DECIMAL_PRECISION));
+        }
+
+        BigInteger unscaled = scaled.unscaledValue();
+        byte[] bytes = unscaled.toByteArray();
+        byte[] fixedLength = new byte[DECIMAL_LENGTH_IN_BYTES];
+        if (unscaled.signum() < 0) {
+            Arrays.fill(fixedLength, (byte) 0xFF);
+        }
+        System.arraycopy(bytes, 0, fixedLength, DECIMAL_LENGTH_IN_BYTES - bytes.length, bytes.length);
+        return Binary.fromConstantByteArray(fixedLength);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.writer.parquet;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Fields;
+import com.scottlogic.datahelix.generator.output.writer.DataSetWriter;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.OutputFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes rows as a single Parquet file. Rows are buffered in memory, column by column, and a row group is written
+ * out each time the buffered data reaches the row group size, and on close.
+ *
+ * Only the fields of each row are written; related sub-objects have no place in a flat Parquet schema.
+ */
+class ParquetDataSetWriter implements DataSetWriter {
+    private final ParquetWriter<GeneratedObject> writer;
+
+    private ParquetDataSetWriter(ParquetWriter<GeneratedObject> writer) {
+        this.writer = writer;
+    }
+
+    static DataSetWriter open(OutputStream stream, Fields fields, long rowGroupSize) throws IOException {
+        List<ParquetColumn> columns = fields.getExternalStream()
+            .map(ParquetColumn::compile)
+            .collect(Collectors.toList());
+
+        ParquetWriter<GeneratedObject> writer = new Builder(new OutputStreamOutputFile(stream), columns)
+            .withRowGroupSize(rowGroupSize)
+            .withCompressionCodec(CompressionCodecName.SNAPPY)
+            .withConf(new Configuration(false))
+            .build();
+
+        return new ParquetDataSetWriter(writer);
+    }
+
+    @Override
+    public void writeRow(GeneratedObject row) throws IOException {
+        writer.write(row);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static class Builder extends ParquetWriter.Builder<GeneratedObject, Builder> {
+        private final List<ParquetColumn> columns;
+
+        private Builder(OutputFile file, List<ParquetColumn> columns) {
+            super(file);
+            this.columns = columns;
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        @Override
+        protected WriteSupport<GeneratedObject> getWriteSupport(Configuration conf) {
+            return new GeneratedObjectWriteSupport(columns);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ParallelGzipOutputStreamTests {
+    @Test
+    void write_withManyBlocksOfData_shouldDecompressToTheSameData() throws IOException {
+        byte[] data = rows(100_000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        Random random = new Random(0);
+        try (OutputStream stream = new ParallelGzipOutputStream(compressed, 4)) {
+            int offset = 0;
+            while (offset < data.length) {
+                int length = Math.min(random.nextInt(5000) + 1, data.length - offset);
+                stream.write(data, offset, length);
+                offset += length;
+            }
+        }
+
+        assertThat(decompress(compressed.toByteArray()), equalTo(data));
+        assertThat(compressed.size(), lessThan(data.length / 4));
+    }
+
+    @Test
+    void write_withSingleBytesAndFlushes_shouldDecompressToTheSameData() throws IOException {
+        byte[] data = rows(1_000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        try (OutputStream stream = new ParallelGzipOutputStream(compressed, 2)) {
+            for (byte b : data) {
+                stream.write(b);
+                stream.flush();
+            }
+        }
+
+        assertThat(decompress(compressed.toByteArray()), equalTo(data));
+    }
+
+    @Test
+    void flush_afterEachWrite_shouldNotWaitForBlocksAlreadyCompressing() throws Exception {
+        byte[] data = rows(50_000);
+        CountDownLatch writerReleased = new CountDownLatch(1);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        OutputStream blockedUntilReleased = new FilterOutputStream(compressed) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                awaitRelease();
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                awaitRelease();
+                out.write(b);
+            }
+
+            private void awaitRelease() throws IOException {
+                // the header is written by the constructor, on the calling thread
+                if (!Thread.currentThread().getName().startsWith("gzip-writer")) {
+                    return;
+                }
+                try {
+                    writerReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+
+        ParallelGzipOutputStream stream = new ParallelGzipOutputStream(blockedUntilReleased, 2);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            // three full blocks, flushed after every row, while the first compressed block can't yet be written
+            Future<?> written = caller.submit(() -> {
+                for (int offset = 0; offset < 3 * 128 * 1024; offset += 32) {
+                    stream.write(data, offset, 32);
+                    stream.flush();
+                }
+                return null;
+            });
+
+            written.get(10, TimeUnit.SECONDS);
+            writerReleased.countDown();
+            stream.write(data, 3 * 128 * 1024, data.length - 3 * 128 * 1024);
+            stream.close();
+        } finally {
+            writerReleased.countDown();
+            caller.shutdownNow();
+        }
+
+        assertThat(decompress(compressed.toByteArray()), equalTo(data));
+    }
+
+    @Test
+    void close_withNothingWritten_shouldWriteAnEmptyGzipStream() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        new ParallelGzipOutputStream(compressed, 2).close();
+
+        assertThat(decompress(compressed.toByteArray()).length, equalTo(0));
+    }
+
+    private static byte[] rows(int count) {
+        Random random = new Random(0);
+        StringBuilder rows = new StringBuilder();
+        for (int row = 0; row < count; row++) {
+            rows.append("row ").append(row).append(',').append(random.nextInt(1000)).append('\n');
+        }
+        return rows.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        try (InputStream stream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                decompressed.write(buffer, 0, read);
+            }
+        }
+        return decompressed.toByteArray();
+    }
+}
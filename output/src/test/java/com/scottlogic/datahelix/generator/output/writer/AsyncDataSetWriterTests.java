@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.writer;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class AsyncDataSetWriterTests {
+    @Test
+    void writeRow_withMoreRowsThanTheQueueHolds_shouldWriteEveryRowInOrder() throws IOException {
+        RecordingWriter recordingWriter = new RecordingWriter();
+        List<GeneratedObject> rows = new ArrayList<>();
+        for (int index = 0; index < 10_000; index++) {
+            rows.add(mock(GeneratedObject.class));
+        }
+
+        try (DataSetWriter writer = new AsyncDataSetWriter(recordingWriter, 16)) {
+            for (GeneratedObject row : rows) {
+                writer.writeRow(row);
+            }
+        }
+
+        assertThat(recordingWriter.rows, equalTo(rows));
+        assertThat(recordingWriter.closed, is(true));
+    }
+
+    @Test
+    void close_withNoRows_shouldCloseTheUnderlyingWriter() throws IOException {
+        RecordingWriter recordingWriter = new RecordingWriter();
+
+        new AsyncDataSetWriter(recordingWriter, 16).close();
+
+        assertThat(recordingWriter.rows, empty());
+        assertThat(recordingWriter.closed, is(true));
+    }
+
+    @Test
+    void close_whenTheUnderlyingWriterFails_shouldThrowItsException() throws IOException {
+        RecordingWriter recordingWriter = new RecordingWriter();
+        recordingWriter.failure = new IOException("disk full");
+        AsyncDataSetWriter writer = new AsyncDataSetWriter(recordingWriter, 16);
+        writer.writeRow(mock(GeneratedObject.class));
+
+        IOException exception = assertThrows(IOException.class, writer::close);
+
+        assertThat(exception.getMessage(), equalTo("disk full"));
+        assertThat(recordingWriter.closed, is(true));
+    }
+
+    private static class RecordingWriter implements DataSetWriter {
+        private final List<GeneratedObject> rows = new ArrayList<>();
+        private IOException failure;
+        private boolean closed;
+
+        @Override
+        public void writeRow(GeneratedObject row) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            rows.add(row);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
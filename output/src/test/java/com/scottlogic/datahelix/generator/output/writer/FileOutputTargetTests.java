@@ -18,6 +18,8 @@ package com.scottlogic.datahelix.generator.output.writer;
 
 import com.scottlogic.datahelix.generator.common.util.FileUtils;
 import com.scottlogic.datahelix.generator.output.OutputPath;
+import com.scottlogic.datahelix.generator.output.compression.OutputCompression;
+import com.scottlogic.datahelix.generator.output.compression.OutputStreamCompressor;
 import com.scottlogic.datahelix.generator.output.outputtarget.FileOutputTarget;
 import com.scottlogic.datahelix.generator.output.outputtarget.OutputTargetValidationException;
 import org.junit.Test;
@@ -40,13 +42,14 @@ public class FileOutputTargetTests {
     private OutputWriterFactory mockOutputFormat;
     @Mock
     private Path mockParentPath;
+    private final OutputStreamCompressor noCompression = new OutputStreamCompressor(OutputCompression.NONE, 1);
 
     @Test
     public void validate_generateOutputFileIsADirectory_throwsException() {
         Mockito.when(mockFileUtils.isDirectory(Matchers.any())).thenReturn(true);
         Mockito.when(mockFilePath.getParent()).thenReturn(mockParentPath);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils, noCompression);
 
         assertThrows(OutputTargetValidationException.class, outputTarget::validate, "Expected OutputTargetValidationException to throw, but didn't");
     }
@@ -58,7 +61,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFilePath.getParent()).thenReturn(mockParentPath);
         Mockito.when(mockFileUtils.exists(Matchers.any())).thenReturn(true);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils, noCompression);
 
         assertThrows(OutputTargetValidationException.class, outputTarget::validate, "Expected OutputTargetValidationException to throw, but didn't");
     }
@@ -70,7 +73,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFilePath.getParent()).thenReturn(mockParentPath);
         Mockito.when(mockFileUtils.exists(Matchers.any())).thenReturn(true);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, true, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, true, mockFileUtils, noCompression);
 
         assertDoesNotThrow(outputTarget::validate,"Expected no exception, but one was thrown");
     }
@@ -83,7 +86,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFileUtils.isDirectory(mockFilePath)).thenReturn(false);
         Mockito.when(mockFileUtils.createDirectories(Matchers.any())).thenReturn(true);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, true, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, true, mockFileUtils, noCompression);
 
         assertDoesNotThrow(outputTarget::validate,"Expected no exception, but one was thrown");
     }
@@ -96,7 +99,7 @@ public class FileOutputTargetTests {
         Mockito.when(mockFileUtils.isDirectory(mockFilePath)).thenReturn(false);
         Mockito.when(mockFileUtils.isDirectory(mockParentPath)).thenReturn(false);
         OutputPath outputPath = new OutputPath(mockFilePath);
-        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils);
+        FileOutputTarget outputTarget = new FileOutputTarget(outputPath, mockOutputFormat, false, mockFileUtils, noCompression);
 
         assertThrows(OutputTargetValidationException.class, outputTarget::validate,"Expected OutputTargetValidationException to throw, but didn't");
     }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.writer;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.common.profile.Fields;
+import com.scottlogic.datahelix.generator.common.profile.ProfileFields;
+import com.scottlogic.datahelix.generator.common.util.FileUtils;
+import com.scottlogic.datahelix.generator.output.OutputPath;
+import com.scottlogic.datahelix.generator.output.compression.OutputCompression;
+import com.scottlogic.datahelix.generator.output.compression.OutputStreamCompressor;
+import com.scottlogic.datahelix.generator.output.outputtarget.OutputTargetValidationException;
+import com.scottlogic.datahelix.generator.output.outputtarget.RollingFileOutputTarget;
+import com.scottlogic.datahelix.generator.output.writer.csv.CsvOutputWriterFactory;
+import com.scottlogic.datahelix.generator.output.writer.json.JsonOutputWriterFactory;
+import com.scottlogic.datahelix.generator.output.writer.parquet.ParquetOutputWriterFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.scottlogic.datahelix.generator.common.profile.FieldBuilder.createField;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RollingFileOutputTargetTests {
+    private final Field field = createField("value");
+    private final Fields fields = new ProfileFields(Collections.singletonList(field));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void openWriter_withMaxRowsPerFile_shouldWriteNumberedCsvFilesEachWithAHeader() throws IOException {
+        RollingFileOutputTarget target = target(new CsvOutputWriterFactory(), 2L, null);
+
+        write(target, 5);
+
+        assertThat(fileNames(), contains("out-00001.csv", "out-00002.csv", "out-00003.csv"));
+        assertThat(read("out-00001.csv"), equalTo("value\n0\n1\n"));
+        assertThat(read("out-00002.csv"), equalTo("value\n2\n3\n"));
+        assertThat(read("out-00003.csv"), equalTo("value\n4\n"));
+    }
+
+    @Test
+    void openWriter_withJsonFormat_shouldWriteAJsonArrayPerFile() throws IOException {
+        RollingFileOutputTarget target = target(new JsonOutputWriterFactory(false), 2L, null);
+
+        write(target, 3);
+
+        assertThat(read("out-00001.json").replaceAll("\\s", ""), equalTo("[{\"value\":\"0\"},{\"value\":\"1\"}]"));
+        assertThat(read("out-00002.json").replaceAll("\\s", ""), equalTo("[{\"value\":\"2\"}]"));
+    }
+
+    @Test
+    void openWriter_withMaxBytesPerFile_shouldStartNewFilesOnceTheLimitIsReached() throws IOException {
+        RollingFileOutputTarget target = target(new CsvOutputWriterFactory(), null, 1L);
+
+        write(target, 3);
+
+        assertThat(fileNames(), hasItem("out-00001.csv"));
+        String allRows = fileNames().stream().map(this::read).collect(Collectors.joining());
+        assertThat(allRows.replace("value\n", ""), equalTo("0\n1\n2\n"));
+    }
+
+    @Test
+    void openWriter_withNoRows_shouldWriteOneFileWithAHeader() throws IOException {
+        RollingFileOutputTarget target = target(new CsvOutputWriterFactory(), 2L, null);
+
+        write(target, 0);
+
+        assertThat(fileNames(), contains("out-00001.csv"));
+        assertThat(read("out-00001.csv"), equalTo("value\n"));
+    }
+
+    @Test
+    void validate_withFirstFileAlreadyExistingNoOverwrite_throwsException() throws IOException {
+        Files.createFile(directory.resolve("out-00001.csv"));
+        RollingFileOutputTarget target = target(new CsvOutputWriterFactory(), 2L, null);
+
+        assertThrows(OutputTargetValidationException.class, target::validate);
+    }
+
+    @Test
+    void validate_withLaterFileAlreadyExistingNoOverwrite_throwsException() throws IOException {
+        Files.createFile(directory.resolve("out-00003.csv"));
+        RollingFileOutputTarget target = target(new CsvOutputWriterFactory(), 2L, null);
+
+        assertThrows(OutputTargetValidationException.class, target::validate);
+    }
+
+    @Test
+    void validate_withUnnumberedFilesAlreadyExistingNoOverwrite_doesNotThrow() throws IOException {
+        Files.createFile(directory.resolve("out.csv"));
+        Files.createFile(directory.resolve("out-1.csv"));
+        Files.createFile(directory.resolve("out-00001.json"));
+        RollingFileOutputTarget target = target(new CsvOutputWriterFactory(), 2L, null);
+
+        target.validate();
+    }
+
+    @Test
+    void openWriter_withFilesFromALongerRunAndOverwrite_shouldRemoveTheStaleFiles() throws IOException {
+        write(target(new CsvOutputWriterFactory(), 1L, null, true), 3);
+        RollingFileOutputTarget target = target(new CsvOutputWriterFactory(), 2L, null, true);
+
+        write(target, 3);
+
+        assertThat(fileNames(), contains("out-00001.csv", "out-00002.csv"));
+        assertThat(read("out-00002.csv"), equalTo("value\n2\n"));
+    }
+
+    @Test
+    void validate_withMaxBytesPerFileForParquet_throwsException() {
+        RollingFileOutputTarget target = target(new ParquetOutputWriterFactory(1024), null, 1000L);
+
+        assertThrows(OutputTargetValidationException.class, target::validate);
+    }
+
+    @Test
+    void validate_withMaxRowsPerFileForParquet_doesNotThrow() throws IOException {
+        RollingFileOutputTarget target = target(new ParquetOutputWriterFactory(1024), 1000L, null);
+
+        target.validate();
+    }
+
+    @Test
+    void validate_withNoMoreThanZeroRowsPerFile_throwsException() {
+        RollingFileOutputTarget target = target(new CsvOutputWriterFactory(), 0L, null);
+
+        assertThrows(OutputTargetValidationException.class, target::validate);
+    }
+
+    private RollingFileOutputTarget target(OutputWriterFactory writerFactory, Long maxRows, Long maxBytes) {
+        return target(writerFactory, maxRows, maxBytes, false);
+    }
+
+    private RollingFileOutputTarget target(
+        OutputWriterFactory writerFactory,
+        Long maxRows,
+        Long maxBytes,
+        boolean canOverwriteExistingFiles) {
+        return new RollingFileOutputTarget(
+            new OutputPath(directory.resolve("out." + writerFactory.getFileExtensionWithoutDot().get())),
+            writerFactory,
+            canOverwriteExistingFiles,
+            new FileUtils(),
+            new OutputStreamCompressor(OutputCompression.NONE, 1),
+            maxRows,
+            maxBytes,
+            2);
+    }
+
+    private void write(RollingFileOutputTarget target, int rows) throws IOException {
+        target.validate();
+        try (DataSetWriter writer = target.openWriter(fields)) {
+            for (int index = 0; index < rows; index++) {
+                GeneratedObject row = mock(GeneratedObject.class);
+                when(row.getFormattedValue(field)).thenReturn(Integer.toString(index));
+                writer.writeRow(row);
+            }
+        }
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private String read(String fileName) {
+        try {
+            return new String(Files.readAllBytes(directory.resolve(fileName)), StandardCharsets.UTF_8)
+                .replace("\r\n", "\n");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -51,12 +51,12 @@ public class CsvDataSetWriterTest {
 
     @Test
     public void open_createsCSVWriterThatCorrectlyOutputsCommasAndQuotes() {
-        DataSetWriter dataSetWriter;
         Mockito.when(row.getFormattedValue(fieldOne)).thenReturn(",,");
         Mockito.when(row.getFormattedValue(fieldTwo)).thenReturn(",\"");
         try {
-            dataSetWriter = CsvDataSetWriter.open(outputStream, fields);
-            dataSetWriter.writeRow(row);
+            try (DataSetWriter dataSetWriter = CsvDataSetWriter.open(outputStream, fields)) {
+                dataSetWriter.writeRow(row);
+            }
             String output = outputStream.toString(StandardCharsets.UTF_8.toString());
             Assert.assertEquals(
                 "If the actual and expected appear to be identical, check for null characters",
@@ -16,6 +16,9 @@
 package com.scottlogic.datahelix.generator.output.writer.json;
 
 import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.output.RelationalGeneratedObject;
+import com.scottlogic.datahelix.generator.common.output.SubGeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
 import com.scottlogic.datahelix.generator.common.profile.FieldBuilder;
 import com.scottlogic.datahelix.generator.common.profile.Fields;
 import com.scottlogic.datahelix.generator.common.profile.ProfileFields;
@@ -30,12 +33,14 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Stream;
 
 import static com.scottlogic.datahelix.generator.common.profile.FieldBuilder.createField;
 import static com.scottlogic.datahelix.generator.common.profile.FieldBuilder.createInternalField;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class JsonOutputWriterFactoryTest {
     @Test
@@ -73,6 +78,31 @@ class JsonOutputWriterFactoryTest {
         );
     }
 
+    @Test
+    void writeRow_withRelatedArray_shouldWriteEachSubObjectInTheArray() throws IOException {
+        Field field = createField("my_field");
+        Field childField = createField("child");
+        GeneratedObject firstChild = mock(GeneratedObject.class);
+        when(firstChild.getFormattedValue(eq(childField))).thenReturn("first");
+        GeneratedObject secondChild = mock(GeneratedObject.class);
+        when(secondChild.getFormattedValue(eq(childField))).thenReturn("second");
+        SubGeneratedObject children = mock(SubGeneratedObject.class);
+        when(children.getFields()).thenReturn(Collections.singletonList(childField));
+        when(children.getData()).thenAnswer(invocation -> Stream.of(firstChild, secondChild));
+        when(children.isArray()).thenReturn(true);
+        GeneratedObject row = mock(GeneratedObject.class, withSettings().extraInterfaces(RelationalGeneratedObject.class));
+        when(row.getFormattedValue(eq(field))).thenReturn("my_value");
+        when(((RelationalGeneratedObject) row).getSubObjects()).thenReturn(Collections.singletonMap("children", children));
+
+        String generateJson = generateJson(new ProfileFields(Collections.singletonList(field)), row, true);
+
+        Assert.assertThat(
+            generateJson,
+            Matchers.equalTo(
+                "{\"my_field\":\"my_value\",\"children\":[{\"child\":\"first\"},{\"child\":\"second\"}]}\n" +
+                "{\"my_field\":\"my_value\",\"children\":[{\"child\":\"first\"},{\"child\":\"second\"}]}"));
+    }
+
     private static void expectJson(Fields fields, boolean streamOutput, Matcher<String> matcher) throws IOException {
         // Act
         GeneratedObject mockGeneratedObject = mock(GeneratedObject.class);
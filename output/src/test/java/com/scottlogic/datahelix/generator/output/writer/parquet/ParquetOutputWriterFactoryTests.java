@@ -0,0 +1,264 @@
+/*
+ * Copyright 2019 Scott Logic Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scottlogic.datahelix.generator.output.writer.parquet;
+
+import com.scottlogic.datahelix.generator.common.output.GeneratedObject;
+import com.scottlogic.datahelix.generator.common.profile.Field;
+import com.scottlogic.datahelix.generator.common.profile.Fields;
+import com.scottlogic.datahelix.generator.common.profile.ProfileFields;
+import com.scottlogic.datahelix.generator.common.profile.StandardSpecificFieldType;
+import com.scottlogic.datahelix.generator.output.writer.DataSetWriter;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.scottlogic.datahelix.generator.common.profile.FieldBuilder.createField;
+import static com.scottlogic.datahelix.generator.common.profile.FieldBuilder.createInternalField;
+import static org.apache.parquet.schema.LogicalTypeAnnotation.TimeUnit.MILLIS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParquetOutputWriterFactoryTests {
+    private static final long ROW_GROUP_SIZE = 128L * 1024 * 1024;
+
+    private final Field integerField = createField("integer", StandardSpecificFieldType.INTEGER.toSpecificFieldType());
+    private final Field decimalField = createField("decimal", StandardSpecificFieldType.DECIMAL.toSpecificFieldType());
+    private final Field datetimeField = createField("datetime", StandardSpecificFieldType.DATETIME.toSpecificFieldType());
+    private final Field dateField = createField("date", StandardSpecificFieldType.DATE.toSpecificFieldType());
+    private final Field timeField = createField("time", StandardSpecificFieldType.TIME.toSpecificFieldType());
+    private final Field booleanField = createField("boolean", StandardSpecificFieldType.BOOLEAN.toSpecificFieldType());
+    private final Field stringField = createField("string", StandardSpecificFieldType.STRING.toSpecificFieldType());
+
+    private final Fields fields = new ProfileFields(Arrays.asList(
+        integerField, decimalField, datetimeField, dateField, timeField, booleanField, stringField));
+
+    @Test
+    void createWriter_withFieldsOfEachType_shouldWriteColumnsWithMatchingLogicalTypes() throws IOException {
+        MessageType schema = readSchema(write(fields, ROW_GROUP_SIZE));
+
+        assertThat(logicalType(schema, "integer"), equalTo(LogicalTypeAnnotation.decimalType(0, 38)));
+        assertThat(logicalType(schema, "decimal"), equalTo(LogicalTypeAnnotation.stringType()));
+        assertThat(logicalType(schema, "datetime"), equalTo(LogicalTypeAnnotation.timestampType(true, MILLIS)));
+        assertThat(logicalType(schema, "date"), equalTo(LogicalTypeAnnotation.dateType()));
+        assertThat(logicalType(schema, "time"), equalTo(LogicalTypeAnnotation.timeType(false, MILLIS)));
+        assertThat(logicalType(schema, "boolean"), nullValue());
+        assertThat(logicalType(schema, "string"), equalTo(LogicalTypeAnnotation.stringType()));
+    }
+
+    @Test
+    void writeRow_withValueOfEachType_shouldReadBackTheSameValues() throws IOException {
+        OffsetDateTime datetime = OffsetDateTime.of(2001, 2, 3, 4, 5, 6, 777_000_000, ZoneOffset.UTC);
+        GeneratedObject row = mock(GeneratedObject.class);
+        when(row.getValue(integerField)).thenReturn(new BigDecimal("-12345678901234567890"));
+        when(row.getFormattedValue(decimalField)).thenReturn("0.12345678901234567891");
+        when(row.getValue(datetimeField)).thenReturn(datetime);
+        when(row.getValue(dateField)).thenReturn(datetime);
+        when(row.getValue(timeField)).thenReturn(LocalTime.of(4, 5, 6, 777_000_000));
+        when(row.getValue(booleanField)).thenReturn(true);
+        when(row.getFormattedValue(stringField)).thenReturn("hello");
+
+        Group group = readRows(write(fields, ROW_GROUP_SIZE, row)).get(0);
+
+        assertThat(decimal(group, "integer", 0), equalTo(new BigDecimal("-12345678901234567890")));
+        assertThat(group.getString("decimal", 0), equalTo("0.12345678901234567891"));
+        assertThat(group.getLong("datetime", 0), equalTo(datetime.toInstant().toEpochMilli()));
+        assertThat(group.getInteger("date", 0), equalTo((int) datetime.toLocalDate().toEpochDay()));
+        assertThat(group.getInteger("time", 0), equalTo(((4 * 60 + 5) * 60 + 6) * 1000 + 777));
+        assertThat(group.getBoolean("boolean", 0), equalTo(true));
+        assertThat(group.getString("string", 0), equalTo("hello"));
+    }
+
+    @Test
+    void writeRow_withNullValues_shouldLeaveValuesOut() throws IOException {
+        Group group = readRows(write(fields, ROW_GROUP_SIZE, mock(GeneratedObject.class))).get(0);
+
+        for (Field field : fields) {
+            assertThat(group.getFieldRepetitionCount(field.getName()), equalTo(0));
+        }
+    }
+
+    @Test
+    void writeRow_withIntegerOfDefaultRange_shouldReadBackTheSameValue() throws IOException {
+        Fields fields = new ProfileFields(Arrays.asList(integerField));
+        GeneratedObject row = mock(GeneratedObject.class);
+        when(row.getValue(integerField)).thenReturn(new BigDecimal("1e20"));
+
+        Group group = readRows(write(fields, ROW_GROUP_SIZE, row)).get(0);
+
+        assertThat(decimal(group, "integer", 0), equalTo(new BigDecimal("100000000000000000000")));
+    }
+
+    @Test
+    void writeRow_withIntegerThatWouldNeedRounding_shouldThrow() {
+        Fields fields = new ProfileFields(Arrays.asList(integerField));
+        GeneratedObject row = mock(GeneratedObject.class);
+        when(row.getValue(integerField)).thenReturn(new BigDecimal("1.5"));
+
+        assertThrows(IllegalArgumentException.class, () -> write(fields, ROW_GROUP_SIZE, row));
+    }
+
+    @Test
+    void writeRow_withCustomFormatting_shouldWriteFormattedString() throws IOException {
+        Field formattedField = new Field(
+            "formatted", StandardSpecificFieldType.DECIMAL.toSpecificFieldType(), false, "%.2f", false, false, null);
+        GeneratedObject row = mock(GeneratedObject.class);
+        when(row.getFormattedValue(formattedField)).thenReturn("1.50");
+
+        byte[] parquet = write(new ProfileFields(Arrays.asList(formattedField)), ROW_GROUP_SIZE, row);
+
+        assertThat(logicalType(readSchema(parquet), "formatted"), equalTo(LogicalTypeAnnotation.stringType()));
+        assertThat(readRows(parquet).get(0).getString("formatted", 0), equalTo("1.50"));
+    }
+
+    @Test
+    void createWriter_withInternalFields_shouldNotWriteInternalFields() throws IOException {
+        Fields fields = new ProfileFields(Arrays.asList(createField("External"), createInternalField("Internal")));
+
+        MessageType schema = readSchema(write(fields, ROW_GROUP_SIZE));
+
+        assertThat(schema.containsField("External"), is(true));
+        assertThat(schema.containsField("Internal"), is(false));
+    }
+
+    @Test
+    void writeRow_withMoreRowsThanFitInARowGroup_shouldWriteSeveralRowGroups() throws IOException {
+        Fields fields = new ProfileFields(Arrays.asList(stringField));
+        GeneratedObject[] rows = new GeneratedObject[10_000];
+        for (int index = 0; index < rows.length; index++) {
+            rows[index] = mock(GeneratedObject.class);
+            when(rows[index].getFormattedValue(stringField)).thenReturn("row " + index);
+        }
+
+        byte[] parquet = write(fields, 1024, rows);
+
+        try (ParquetFileReader reader = ParquetFileReader.open(new ByteArrayInputFile(parquet))) {
+            assertThat(reader.getRowGroups().size(), greaterThan(1));
+            assertThat(reader.getRecordCount(), equalTo((long) rows.length));
+        }
+    }
+
+    private static byte[] write(Fields fields, long rowGroupSize, GeneratedObject... rows) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        try (DataSetWriter writer = new ParquetOutputWriterFactory(rowGroupSize).createWriter(stream, fields)) {
+            for (GeneratedObject row : rows) {
+                writer.writeRow(row);
+            }
+        }
+
+        return stream.toByteArray();
+    }
+
+    private static MessageType readSchema(byte[] parquet) throws IOException {
+        try (ParquetFileReader reader = ParquetFileReader.open(new ByteArrayInputFile(parquet))) {
+            return reader.getFileMetaData().getSchema();
+        }
+    }
+
+    private static List<Group> readRows(byte[] parquet) throws IOException {
+        List<Group> rows = new ArrayList<>();
+        ParquetReader.Builder<Group> builder = new ParquetReader.Builder<Group>(new ByteArrayInputFile(parquet)) {
+            @Override
+            protected ReadSupport<Group> getReadSupport() {
+                return new GroupReadSupport();
+            }
+        };
+
+        try (ParquetReader<Group> reader = builder.withConf(new Configuration(false)).build()) {
+            for (Group row = reader.read(); row != null; row = reader.read()) {
+                rows.add(row);
+            }
+        }
+
+        return rows;
+    }
+
+    private static LogicalTypeAnnotation logicalType(MessageType schema, String name) {
+        return schema.getType(name).getLogicalTypeAnnotation();
+    }
+
+    private static BigDecimal decimal(Group group, String name, int scale) {
+        return new BigDecimal(new BigInteger(group.getBinary(name, 0).getBytes()), scale);
+    }
+
+    private static class ByteArrayInputFile implements InputFile {
+        private final byte[] bytes;
+
+        private ByteArrayInputFile(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public long getLength() {
+            return bytes.length;
+        }
+
+        @Override
+        public SeekableInputStream newStream() {
+            SeekableByteArrayInputStream stream = new SeekableByteArrayInputStream(bytes);
+            return new DelegatingSeekableInputStream(stream) {
+                @Override
+                public long getPos() {
+                    return stream.getPos();
+                }
+
+                @Override
+                public void seek(long newPos) {
+                    stream.seek(newPos);
+                }
+            };
+        }
+    }
+
+    private static class SeekableByteArrayInputStream extends ByteArrayInputStream {
+        private SeekableByteArrayInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        private long getPos() {
+            return pos;
+        }
+
+        private void seek(long newPos) {
+            pos = (int) newPos;
+        }
+    }
+}